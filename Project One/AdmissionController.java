@@ -0,0 +1,181 @@
+package contactservice;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Author: Raynaldo Young
+ * Course: CS-320 Software Test Automation & QA
+ * Assignment: Module Three Milestone – Contact Service
+ *
+ * Purpose:
+ * Decides whether a write call may enter ContactService.
+ * Applies a per-client token-bucket rate limit, a cap on how many clients
+ * are tracked at once, and a global cap on writes that are running or
+ * waiting for the service lock.
+ *
+ * Key Design Notes:
+ * - Admission checks never block: a call is either admitted or rejected
+ *   immediately with ServiceOverloadedException (load shedding).
+ * - All state is held in atomics and a ConcurrentHashMap, so the
+ *   controller does not add a lock in front of the service.
+ * - Only writes are admitted here. ContactService reads do not take the
+ *   write lock, so throttled or queued writes never delay them.
+ * - A full bucket is identical to a new one, so full buckets are evicted
+ *   when the client cap is reached. Clients that rotate clientIds to dodge
+ *   their limit are rejected once the cap is full of active buckets.
+ */
+
+
+/*
+ * Marked final so admission rules cannot be bypassed by subclassing.
+ */
+public final class AdmissionController {
+
+    // Client cap used when none is given.
+    private static final int DEFAULT_MAX_CLIENTS = 10_000;
+
+    // Minimum time between eviction sweeps, so a flood of new clientIds
+    // cannot make every call scan the whole bucket map.
+    private static final long SWEEP_SPACING_NANOS = 100_000_000L;
+
+    private final double writesPerSecond;
+    private final int burst;
+    private final int maxPendingWrites;
+    private final int maxClients;
+    private final LongSupplier clock;
+
+    // Clock reading of the last eviction sweep.
+    private final AtomicLong lastSweep;
+
+    // One bucket per client, created on first use.
+    private final Map<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+
+    // Writes currently admitted and not yet finished.
+    private final AtomicInteger pendingWrites = new AtomicInteger();
+
+    /**
+     * Creates a controller where each client may issue writesPerSecond writes
+     * on average, bursts of up to burst writes, and at most maxPendingWrites
+     * writes may be in progress across all clients.
+     */
+    public AdmissionController(double writesPerSecond, int burst, int maxPendingWrites) {
+        this(writesPerSecond, burst, maxPendingWrites, DEFAULT_MAX_CLIENTS);
+    }
+
+    /**
+     * Same as the three-argument constructor, but tracks at most maxClients
+     * clients with partly used buckets at a time.
+     */
+    public AdmissionController(double writesPerSecond, int burst, int maxPendingWrites, int maxClients) {
+        this(writesPerSecond, burst, maxPendingWrites, maxClients, System::nanoTime);
+    }
+
+    /**
+     * Package-private: allows tests to supply a controllable clock.
+     */
+    AdmissionController(double writesPerSecond, int burst, int maxPendingWrites,
+                        int maxClients, LongSupplier clock) {
+        if (maxPendingWrites <= 0) {
+            throw new IllegalArgumentException("maxPendingWrites must be > 0");
+        }
+        if (maxClients <= 0) {
+            throw new IllegalArgumentException("maxClients must be > 0");
+        }
+
+        // Build one bucket up front so invalid rate settings fail here, not on first use.
+        new TokenBucket(writesPerSecond, burst, clock);
+
+        this.writesPerSecond = writesPerSecond;
+        this.burst = burst;
+        this.maxPendingWrites = maxPendingWrites;
+        this.maxClients = maxClients;
+        this.clock = clock;
+        this.lastSweep = new AtomicLong(clock.getAsLong() - SWEEP_SPACING_NANOS);
+    }
+
+    /**
+     * Admits one write for the client or throws ServiceOverloadedException.
+     * Every successful call must be paired with endWrite() in a finally block.
+     */
+    public void beginWrite(String clientId) {
+        if (clientId == null) {
+            throw new IllegalArgumentException("clientId cannot be null");
+        }
+
+        // Resolve the bucket first; this may reject when too many clients are active.
+        TokenBucket bucket = bucketFor(clientId);
+
+        // Shed load next so a full queue does not consume the client's tokens.
+        if (pendingWrites.incrementAndGet() > maxPendingWrites) {
+            pendingWrites.decrementAndGet();
+            throw new ServiceOverloadedException(clientId, "write queue is full");
+        }
+
+        // Then apply the client's own rate limit.
+        if (!bucket.tryAcquire()) {
+            pendingWrites.decrementAndGet();
+            throw new ServiceOverloadedException(clientId, "write rate limit exceeded");
+        }
+    }
+
+    /**
+     * Marks an admitted write as finished.
+     */
+    public void endWrite() {
+        pendingWrites.decrementAndGet();
+    }
+
+    /**
+     * Returns the number of writes admitted and not yet finished.
+     */
+    public int pendingWrites() {
+        return pendingWrites.get();
+    }
+
+    /**
+     * Returns the number of clients currently tracked.
+     */
+    public int trackedClients() {
+        return buckets.size();
+    }
+
+    /**
+     * Finds or creates the bucket for a client.
+     * The plain get() avoids computeIfAbsent's bin lock on the common path.
+     */
+    private TokenBucket bucketFor(String clientId) {
+        TokenBucket bucket = buckets.get(clientId);
+        if (bucket != null) {
+            return bucket;
+        }
+
+        // Make room by dropping full buckets; reject if every bucket is in use.
+        // The cap is approximate under concurrency but still bounds the map.
+        if (buckets.size() >= maxClients) {
+            evictFullBuckets();
+            if (buckets.size() >= maxClients) {
+                throw new ServiceOverloadedException(clientId, "too many active clients");
+            }
+        }
+        return buckets.computeIfAbsent(clientId,
+                id -> new TokenBucket(writesPerSecond, burst, clock));
+    }
+
+    /**
+     * Removes buckets that have fully refilled. Runs at most once per
+     * SWEEP_SPACING_NANOS; a bucket used at the same moment it is removed
+     * may forgive that one call, which only makes the limit slightly lenient.
+     */
+    private void evictFullBuckets() {
+        long now = clock.getAsLong();
+        long last = lastSweep.get();
+        if (now - last < SWEEP_SPACING_NANOS || !lastSweep.compareAndSet(last, now)) {
+            return;
+        }
+        buckets.values().removeIf(bucket -> bucket.isFull(now));
+    }
+}
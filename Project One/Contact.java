@@ -24,10 +24,11 @@ public final class Contact {
 
     // Centralized constants define all validation limits in one place.
     // This avoids magic numbers scattered throughout the class.
-    private static final int MAX_ID_LEN = 10;
-    private static final int MAX_NAME_LEN = 10;
-    private static final int MAX_ADDRESS_LEN = 30;
-    private static final int PHONE_LEN = 10;
+    // Package-private so ContactCodec can size its fields from the same limits.
+    static final int MAX_ID_LEN = 10;
+    static final int MAX_NAME_LEN = 10;
+    static final int MAX_ADDRESS_LEN = 30;
+    static final int PHONE_LEN = 10;
 
     // contactId uniquely identifies the contact.
     // Marked final so it cannot be changed after construction.
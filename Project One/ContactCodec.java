@@ -0,0 +1,459 @@
+package contactservice;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Author: Raynaldo Young
+ * Course: CS-320 Software Test Automation & QA
+ * Assignment: Module Three Milestone – Contact Service
+ *
+ * Purpose:
+ * Compact binary encoding of Contact records for moving them between
+ * processes or writing them to disk. Much smaller and faster than Java
+ * serialization or JSON (see ContactCodecBenchmark).
+ *
+ * Record layout (single contact):
+ * - contactId, firstName, lastName as strings
+ * - phone as 5 bytes (10 decimal digits always fit in 34 bits)
+ * - address as a string
+ *
+ * String layout:
+ * - 1 header byte: low 7 bits hold the length in chars; the high bit marks
+ *   "wide" text stored as 2-byte big-endian chars. Plain ASCII uses 1 byte
+ *   per char.
+ *   A static check rejects any Contact MAX_*_LEN above 127 at class load.
+ *
+ * Batch layout:
+ * - varint record count, then a varint-sized dictionary of distinct first
+ *   and last names, then each record with both names replaced by varint
+ *   dictionary indexes. Repeated names are stored only once.
+ *
+ * Key Design Notes:
+ * - Encoding writes straight into the caller's ByteBuffer and decoding reads
+ *   straight from it; no intermediate byte arrays are created.
+ * - Every multi-byte value is written byte by byte in big-endian order, so
+ *   the format never depends on the buffer's ByteOrder setting.
+ * - Decoded records go through the Contact constructor, so corrupt input can
+ *   never produce an invalid Contact.
+ * - All errors are reported as IllegalArgumentException, matching the rest
+ *   of the project.
+ * - A rejected decode restores the buffer's position, so callers reading a
+ *   stream of records can skip or retry the bad one.
+ */
+
+
+/*
+ * Marked final with a private constructor because it only holds static helpers.
+ */
+public final class ContactCodec {
+
+    // Bytes used for the packed phone number.
+    private static final int PHONE_BYTES = 5;
+
+    // Header bit that marks a string stored as 2-byte chars.
+    private static final int WIDE_FLAG = 0x80;
+    static final int LENGTH_MASK = 0x7F;
+
+    // Largest digit count whose values all fit in PHONE_BYTES (10^12 < 2^40).
+    static final int MAX_PHONE_DIGITS = 12;
+
+    // Smallest batch record: id header, two 1-byte name indexes, phone, address header.
+    private static final int MIN_BATCH_RECORD_BYTES = 1 + 2 + PHONE_BYTES + 1;
+
+    // Fail loudly at class load if a Contact limit outgrows the format,
+    // instead of silently writing corrupt headers or phone bytes.
+    static {
+        int longest = Math.max(Contact.MAX_ID_LEN, Math.max(Contact.MAX_NAME_LEN, Contact.MAX_ADDRESS_LEN));
+        if (longest > LENGTH_MASK) {
+            throw new IllegalStateException("Contact field limit " + longest
+                    + " does not fit the " + LENGTH_MASK + "-char string header");
+        }
+        if (Contact.PHONE_LEN > MAX_PHONE_DIGITS) {
+            throw new IllegalStateException("Contact.PHONE_LEN " + Contact.PHONE_LEN
+                    + " does not fit in " + PHONE_BYTES + " phone bytes");
+        }
+    }
+
+    private ContactCodec() {
+    }
+
+    // --------------------
+    // Single records
+    // --------------------
+
+    /**
+     * Returns the exact number of bytes encode() will write for the contact.
+     */
+    public static int encodedSize(Contact contact) {
+        requireContact(contact);
+        return stringSize(contact.getContactId())
+                + stringSize(contact.getFirstName())
+                + stringSize(contact.getLastName())
+                + PHONE_BYTES
+                + stringSize(contact.getAddress());
+    }
+
+    /**
+     * Writes one contact at the buffer's position and advances it.
+     * Throws when the buffer does not have enough space left.
+     */
+    public static void encode(Contact contact, ByteBuffer buffer) {
+        requireSpace(buffer, encodedSize(contact));
+        putString(buffer, contact.getContactId());
+        putString(buffer, contact.getFirstName());
+        putString(buffer, contact.getLastName());
+        putPhone(buffer, contact.getPhone());
+        putString(buffer, contact.getAddress());
+    }
+
+    /**
+     * Reads one contact from the buffer's position and advances it.
+     * On truncated or corrupt data the position is left where it started.
+     */
+    public static Contact decode(ByteBuffer buffer) {
+        requireBuffer(buffer);
+        int start = buffer.position();
+        try {
+            String contactId = getString(buffer, Contact.MAX_ID_LEN);
+            String firstName = getString(buffer, Contact.MAX_NAME_LEN);
+            String lastName = getString(buffer, Contact.MAX_NAME_LEN);
+            String phone = getPhone(buffer);
+            String address = getString(buffer, Contact.MAX_ADDRESS_LEN);
+            return new Contact(contactId, firstName, lastName, phone, address);
+        } catch (BufferUnderflowException e) {
+            buffer.position(start);
+            throw new IllegalArgumentException("truncated contact record");
+        } catch (IllegalArgumentException e) {
+            buffer.position(start);
+            throw e;
+        }
+    }
+
+    // --------------------
+    // Batches
+    // --------------------
+
+    /**
+     * Returns the exact number of bytes encodeBatch() will write.
+     */
+    public static int encodedBatchSize(List<Contact> contacts) {
+        requireContacts(contacts);
+        return batchSize(contacts, buildNameDictionary(contacts));
+    }
+
+    /**
+     * Encodes a batch into a new buffer of exactly the right size, ready to read.
+     * Builds the name dictionary once, unlike encodedBatchSize() + encodeBatch().
+     */
+    public static ByteBuffer encodeBatch(List<Contact> contacts) {
+        requireContacts(contacts);
+        Map<String, Integer> names = buildNameDictionary(contacts);
+        ByteBuffer buffer = ByteBuffer.allocate(batchSize(contacts, names));
+        writeBatch(contacts, names, buffer);
+        buffer.flip();
+        return buffer;
+    }
+
+    /**
+     * Writes a batch of contacts with a shared name dictionary.
+     * Throws when the buffer does not have enough space left.
+     */
+    public static void encodeBatch(List<Contact> contacts, ByteBuffer buffer) {
+        requireContacts(contacts);
+        Map<String, Integer> names = buildNameDictionary(contacts);
+        requireSpace(buffer, batchSize(contacts, names));
+        writeBatch(contacts, names, buffer);
+    }
+
+    /**
+     * Writes the batch header, dictionary, and records. Space is already checked.
+     */
+    private static void writeBatch(List<Contact> contacts, Map<String, Integer> names,
+                                   ByteBuffer buffer) {
+
+        // Header: record count and the name dictionary in index order.
+        putVarInt(buffer, contacts.size());
+        putVarInt(buffer, names.size());
+        for (String name : names.keySet()) {
+            putString(buffer, name);
+        }
+
+        // Records reference names by index instead of repeating them.
+        for (Contact contact : contacts) {
+            putString(buffer, contact.getContactId());
+            putVarInt(buffer, names.get(contact.getFirstName()));
+            putVarInt(buffer, names.get(contact.getLastName()));
+            putPhone(buffer, contact.getPhone());
+            putString(buffer, contact.getAddress());
+        }
+    }
+
+    /**
+     * Reads a batch written by encodeBatch() and advances the buffer past it.
+     * On truncated or corrupt data the position is left where it started.
+     */
+    public static List<Contact> decodeBatch(ByteBuffer buffer) {
+        requireBuffer(buffer);
+        int start = buffer.position();
+        try {
+            int count = getVarInt(buffer);
+
+            // Reject counts that could not fit before allocating the result list.
+            if (count > buffer.remaining() / MIN_BATCH_RECORD_BYTES) {
+                throw new IllegalArgumentException("batch count exceeds available data");
+            }
+
+            int nameCount = getVarInt(buffer);
+            if (nameCount > buffer.remaining()) {
+                throw new IllegalArgumentException("name dictionary exceeds available data");
+            }
+            String[] names = new String[nameCount];
+            for (int i = 0; i < nameCount; i++) {
+                names[i] = getString(buffer, Contact.MAX_NAME_LEN);
+            }
+
+            List<Contact> contacts = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                String contactId = getString(buffer, Contact.MAX_ID_LEN);
+                String firstName = lookupName(names, getVarInt(buffer));
+                String lastName = lookupName(names, getVarInt(buffer));
+                String phone = getPhone(buffer);
+                String address = getString(buffer, Contact.MAX_ADDRESS_LEN);
+                contacts.add(new Contact(contactId, firstName, lastName, phone, address));
+            }
+            return contacts;
+        } catch (BufferUnderflowException e) {
+            buffer.position(start);
+            throw new IllegalArgumentException("truncated contact batch");
+        } catch (IllegalArgumentException e) {
+            buffer.position(start);
+            throw e;
+        }
+    }
+
+    // --------------------
+    // Field helpers
+    // --------------------
+
+    /**
+     * Returns the encoded size of a string, including its header byte.
+     */
+    private static int stringSize(String value) {
+        return 1 + (isAscii(value) ? value.length() : value.length() * 2);
+    }
+
+    /**
+     * Writes the header byte followed by 1-byte ASCII or 2-byte big-endian chars.
+     */
+    private static void putString(ByteBuffer buffer, String value) {
+        int length = value.length();
+        if (isAscii(value)) {
+            buffer.put((byte) length);
+            for (int i = 0; i < length; i++) {
+                buffer.put((byte) value.charAt(i));
+            }
+        } else {
+            buffer.put((byte) (WIDE_FLAG | length));
+            for (int i = 0; i < length; i++) {
+                char ch = value.charAt(i);
+                buffer.put((byte) (ch >>> 8));
+                buffer.put((byte) ch);
+            }
+        }
+    }
+
+    /**
+     * Reads a string and rejects lengths above the field's limit before
+     * reading any characters.
+     */
+    private static String getString(ByteBuffer buffer, int maxLen) {
+        int header = buffer.get() & 0xFF;
+        int length = header & LENGTH_MASK;
+        if (length > maxLen) {
+            throw new IllegalArgumentException("encoded string exceeds " + maxLen + " characters");
+        }
+
+        if ((header & WIDE_FLAG) != 0) {
+            char[] chars = new char[length];
+            for (int i = 0; i < length; i++) {
+                int high = buffer.get() & 0xFF;
+                chars[i] = (char) ((high << 8) | (buffer.get() & 0xFF));
+            }
+            return new String(chars);
+        }
+
+        // Heap buffers are decoded in place from the backing array.
+        if (buffer.hasArray()) {
+            if (buffer.remaining() < length) {
+                throw new BufferUnderflowException();
+            }
+            int position = buffer.position();
+            String value = new String(buffer.array(), buffer.arrayOffset() + position,
+                    length, StandardCharsets.ISO_8859_1);
+            buffer.position(position + length);
+            return value;
+        }
+
+        char[] chars = new char[length];
+        for (int i = 0; i < length; i++) {
+            chars[i] = (char) (buffer.get() & 0xFF);
+        }
+        return new String(chars);
+    }
+
+    /**
+     * Packs the 10-digit phone number into 5 big-endian bytes.
+     */
+    private static void putPhone(ByteBuffer buffer, String phone) {
+        long value = Long.parseLong(phone);
+        for (int shift = (PHONE_BYTES - 1) * 8; shift >= 0; shift -= 8) {
+            buffer.put((byte) (value >>> shift));
+        }
+    }
+
+    /**
+     * Unpacks a phone number, restoring leading zeros.
+     * Values above 10 digits are left for Contact validation to reject.
+     */
+    private static String getPhone(ByteBuffer buffer) {
+        long value = 0;
+        for (int i = 0; i < PHONE_BYTES; i++) {
+            value = (value << 8) | (buffer.get() & 0xFF);
+        }
+
+        String digits = Long.toString(value);
+        StringBuilder phone = new StringBuilder(Contact.PHONE_LEN);
+        for (int i = digits.length(); i < Contact.PHONE_LEN; i++) {
+            phone.append('0');
+        }
+        return phone.append(digits).toString();
+    }
+
+    /**
+     * Writes a non-negative int using 7 bits per byte (small values take 1 byte).
+     */
+    private static void putVarInt(ByteBuffer buffer, int value) {
+        while ((value & ~0x7F) != 0) {
+            buffer.put((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        buffer.put((byte) value);
+    }
+
+    /**
+     * Reads an int written by putVarInt().
+     */
+    private static int getVarInt(ByteBuffer buffer) {
+        int value = 0;
+        for (int shift = 0; shift < 32; shift += 7) {
+            int b = buffer.get() & 0xFF;
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                if (value < 0) {
+                    throw new IllegalArgumentException("varint out of range");
+                }
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("varint is too long");
+    }
+
+    /**
+     * Returns the encoded size of a varint.
+     */
+    private static int varIntSize(int value) {
+        int size = 1;
+        while ((value & ~0x7F) != 0) {
+            value >>>= 7;
+            size++;
+        }
+        return size;
+    }
+
+    // Returns true when every char fits in a single byte of 7-bit ASCII.
+    private static boolean isAscii(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            if (value.charAt(i) > 0x7F) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Assigns each distinct first or last name an index in first-seen order.
+     */
+    private static Map<String, Integer> buildNameDictionary(List<Contact> contacts) {
+        Map<String, Integer> names = new LinkedHashMap<>();
+        for (Contact contact : contacts) {
+            names.putIfAbsent(contact.getFirstName(), names.size());
+            names.putIfAbsent(contact.getLastName(), names.size());
+        }
+        return names;
+    }
+
+    /**
+     * Computes the batch size for a prepared name dictionary.
+     */
+    private static int batchSize(List<Contact> contacts, Map<String, Integer> names) {
+        int size = varIntSize(contacts.size()) + varIntSize(names.size());
+        for (String name : names.keySet()) {
+            size += stringSize(name);
+        }
+        for (Contact contact : contacts) {
+            size += stringSize(contact.getContactId())
+                    + varIntSize(names.get(contact.getFirstName()))
+                    + varIntSize(names.get(contact.getLastName()))
+                    + PHONE_BYTES
+                    + stringSize(contact.getAddress());
+        }
+        return size;
+    }
+
+    // Resolves a dictionary index, rejecting indexes outside the dictionary.
+    private static String lookupName(String[] names, int index) {
+        if (index >= names.length) {
+            throw new IllegalArgumentException("name index out of range");
+        }
+        return names[index];
+    }
+
+    // --------------------
+    // Argument checks
+    // --------------------
+
+    private static void requireContact(Contact contact) {
+        if (contact == null) {
+            throw new IllegalArgumentException("contact cannot be null");
+        }
+    }
+
+    private static void requireContacts(List<Contact> contacts) {
+        if (contacts == null) {
+            throw new IllegalArgumentException("contacts cannot be null");
+        }
+        for (Contact contact : contacts) {
+            requireContact(contact);
+        }
+    }
+
+    private static void requireBuffer(ByteBuffer buffer) {
+        if (buffer == null) {
+            throw new IllegalArgumentException("buffer cannot be null");
+        }
+    }
+
+    private static void requireSpace(ByteBuffer buffer, int size) {
+        requireBuffer(buffer);
+        if (buffer.remaining() < size) {
+            throw new IllegalArgumentException("buffer has " + buffer.remaining()
+                    + " bytes remaining but " + size + " are required");
+        }
+    }
+}
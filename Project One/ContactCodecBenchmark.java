@@ -0,0 +1,288 @@
+package contactservice;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Author: Raynaldo Young
+ * Course: CS-320 Software Test Automation & QA
+ * Assignment: Module Three Milestone – Contact Service
+ *
+ * Purpose:
+ * Command-line benchmark comparing ContactCodec with Java serialization
+ * and JSON for encoded size and encode/decode time.
+ *
+ * Key Design Notes:
+ * - Contact is not Serializable, so the Java serialization baseline writes
+ *   each contact as a String[] of its five fields.
+ * - The project has no JSON library, so the JSON baseline is a small
+ *   hand-written encoder/decoder for the flat Contact shape.
+ * - Data is generated from a fixed seed so runs are comparable.
+ * - Every format times the same steps: encode covers sizing, allocation and
+ *   writing; decode covers parsing into Contact objects. Decoded contacts
+ *   are folded into a checksum so the JIT cannot skip the work.
+ *
+ * Usage:
+ *   java contactservice.ContactCodecBenchmark [contacts] [rounds]
+ */
+
+
+/*
+ * Marked final with a private constructor because it is only run via main().
+ */
+public final class ContactCodecBenchmark {
+
+    private static final String[] FIRST_NAMES = {"Kai", "Noa", "Leo", "Aiko", "Rin", "Mika", "Maui", "Koa"};
+    private static final String[] LAST_NAMES = {"Lee", "Tan", "Sato", "Lane", "Hale", "Ika", "Zen", "Kea"};
+
+    // Accumulates decoded field data so decoding has an observable result.
+    private static long checksum;
+
+    private ContactCodecBenchmark() {
+    }
+
+    /**
+     * Runs every format and prints bytes per contact and nanoseconds per contact.
+     */
+    public static void main(String[] args) throws IOException, ClassNotFoundException {
+        int count = args.length > 0 ? Integer.parseInt(args[0]) : 10_000;
+        int rounds = args.length > 1 ? Integer.parseInt(args[1]) : 20;
+        List<Contact> contacts = sampleContacts(count, 320L);
+
+        // Early rounds warm up the JIT; only the last half is timed.
+        long[] single = new long[2];
+        long[] batch = new long[2];
+        long[] java = new long[2];
+        long[] json = new long[2];
+        int[] sizes = new int[4];
+        for (int round = 0; round < rounds; round++) {
+            boolean timed = round >= rounds / 2;
+            sizes[0] = timeSingle(contacts, timed ? single : new long[2]);
+            sizes[1] = timeBatch(contacts, timed ? batch : new long[2]);
+            sizes[2] = timeJavaSerialization(contacts, timed ? java : new long[2]);
+            sizes[3] = timeJson(contacts, timed ? json : new long[2]);
+        }
+
+        long timedContacts = (long) count * (rounds - rounds / 2);
+        System.out.println("format               bytes/contact  encode ns/contact  decode ns/contact");
+        print("ContactCodec", sizes[0], count, single, timedContacts);
+        print("ContactCodec batch", sizes[1], count, batch, timedContacts);
+        print("Java serialization", sizes[2], count, java, timedContacts);
+        print("JSON", sizes[3], count, json, timedContacts);
+        System.out.println("checksum " + checksum);
+    }
+
+    /**
+     * Builds valid contacts with repeating names, like real contact lists.
+     */
+    static List<Contact> sampleContacts(int count, long seed) {
+        Random random = new Random(seed);
+        List<Contact> contacts = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            contacts.add(new Contact(
+                    "ID" + i,
+                    FIRST_NAMES[random.nextInt(FIRST_NAMES.length)],
+                    LAST_NAMES[random.nextInt(LAST_NAMES.length)],
+                    samplePhone(random),
+                    (1 + random.nextInt(999)) + " Kalakaua Ave"
+            ));
+        }
+        return contacts;
+    }
+
+    // Returns a valid 10-digit phone number drawn from the random source.
+    private static String samplePhone(Random random) {
+        char[] digits = new char[Contact.PHONE_LEN];
+        for (int i = 0; i < digits.length; i++) {
+            digits[i] = (char) ('0' + random.nextInt(10));
+        }
+        return new String(digits);
+    }
+
+    // Encodes and decodes each contact individually with ContactCodec.
+    private static int timeSingle(List<Contact> contacts, long[] nanos) {
+        long start = System.nanoTime();
+        int size = 0;
+        for (Contact contact : contacts) {
+            size += ContactCodec.encodedSize(contact);
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(size);
+        for (Contact contact : contacts) {
+            ContactCodec.encode(contact, buffer);
+        }
+        long encoded = System.nanoTime();
+
+        buffer.flip();
+        List<Contact> result = new ArrayList<>(contacts.size());
+        for (int i = 0; i < contacts.size(); i++) {
+            result.add(ContactCodec.decode(buffer));
+        }
+        consume(result);
+        long decoded = System.nanoTime();
+
+        nanos[0] += encoded - start;
+        nanos[1] += decoded - encoded;
+        return size;
+    }
+
+    // Encodes and decodes the whole list as one dictionary-compressed batch.
+    private static int timeBatch(List<Contact> contacts, long[] nanos) {
+        long start = System.nanoTime();
+        ByteBuffer buffer = ContactCodec.encodeBatch(contacts);
+        long encoded = System.nanoTime();
+
+        consume(ContactCodec.decodeBatch(buffer));
+        long decoded = System.nanoTime();
+
+        nanos[0] += encoded - start;
+        nanos[1] += decoded - encoded;
+        return buffer.limit();
+    }
+
+    // Serializes the list as String[] records with ObjectOutputStream.
+    private static int timeJavaSerialization(List<Contact> contacts, long[] nanos)
+            throws IOException, ClassNotFoundException {
+        long start = System.nanoTime();
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeInt(contacts.size());
+            for (Contact contact : contacts) {
+                out.writeObject(new String[] {
+                        contact.getContactId(), contact.getFirstName(), contact.getLastName(),
+                        contact.getPhone(), contact.getAddress()
+                });
+            }
+        }
+        byte[] data = bytes.toByteArray();
+        long encoded = System.nanoTime();
+
+        List<Contact> result = new ArrayList<>(contacts.size());
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(data))) {
+            int count = in.readInt();
+            for (int i = 0; i < count; i++) {
+                String[] f = (String[]) in.readObject();
+                result.add(new Contact(f[0], f[1], f[2], f[3], f[4]));
+            }
+        }
+        consume(result);
+        long decoded = System.nanoTime();
+
+        nanos[0] += encoded - start;
+        nanos[1] += decoded - encoded;
+        return data.length;
+    }
+
+    // Writes a UTF-8 JSON array of flat objects and parses it back.
+    private static int timeJson(List<Contact> contacts, long[] nanos) {
+        long start = System.nanoTime();
+        StringBuilder json = new StringBuilder();
+        json.append('[');
+        for (int i = 0; i < contacts.size(); i++) {
+            Contact contact = contacts.get(i);
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append("{\"contactId\":");
+            appendJsonString(json, contact.getContactId());
+            json.append(",\"firstName\":");
+            appendJsonString(json, contact.getFirstName());
+            json.append(",\"lastName\":");
+            appendJsonString(json, contact.getLastName());
+            json.append(",\"phone\":");
+            appendJsonString(json, contact.getPhone());
+            json.append(",\"address\":");
+            appendJsonString(json, contact.getAddress());
+            json.append('}');
+        }
+        json.append(']');
+        byte[] data = json.toString().getBytes(StandardCharsets.UTF_8);
+        long encoded = System.nanoTime();
+
+        consume(parseJson(new String(data, StandardCharsets.UTF_8)));
+        long decoded = System.nanoTime();
+
+        nanos[0] += encoded - start;
+        nanos[1] += decoded - encoded;
+        return data.length;
+    }
+
+    // Appends a quoted JSON string, escaping quotes and backslashes.
+    private static void appendJsonString(StringBuilder json, String value) {
+        json.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char ch = value.charAt(i);
+            if (ch == '"' || ch == '\\') {
+                json.append('\\');
+            }
+            json.append(ch);
+        }
+        json.append('"');
+    }
+
+    /**
+     * Parses the array written by timeJson(). Every value is a string, so each
+     * object is read as five key/value pairs in the order they were written.
+     */
+    private static List<Contact> parseJson(String json) {
+        List<Contact> contacts = new ArrayList<>();
+        String[] fields = new String[5];
+        StringBuilder value = new StringBuilder();
+        int field = 0;
+        boolean inString = false;
+        boolean isKey = true;
+
+        for (int i = 0; i < json.length(); i++) {
+            char ch = json.charAt(i);
+            if (inString) {
+                if (ch == '\\') {
+                    value.append(json.charAt(++i));
+                } else if (ch == '"') {
+                    inString = false;
+                    if (!isKey) {
+                        fields[field++] = value.toString();
+                    }
+                    isKey = !isKey;
+                } else {
+                    value.append(ch);
+                }
+            } else if (ch == '"') {
+                inString = true;
+                value.setLength(0);
+            } else if (ch == '}') {
+                contacts.add(new Contact(fields[0], fields[1], fields[2], fields[3], fields[4]));
+                field = 0;
+            }
+        }
+        return contacts;
+    }
+
+    // Folds every decoded field into the checksum.
+    private static void consume(List<Contact> contacts) {
+        long sum = contacts.size();
+        for (Contact contact : contacts) {
+            sum = sum * 31 + contact.getContactId().hashCode();
+            sum = sum * 31 + contact.getFirstName().hashCode();
+            sum = sum * 31 + contact.getLastName().hashCode();
+            sum = sum * 31 + contact.getPhone().hashCode();
+            sum = sum * 31 + contact.getAddress().hashCode();
+        }
+        checksum += sum;
+    }
+
+    // Prints one result row.
+    private static void print(String format, int size, int count, long[] nanos, long timedContacts) {
+        System.out.printf("%-20s %14.1f %18.1f %18.1f%n",
+                format,
+                size / (double) count,
+                nanos[0] / (double) timedContacts,
+                nanos[1] / (double) timedContacts);
+    }
+}
@@ -0,0 +1,237 @@
+package contactservice;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Author: Raynaldo Young
+ * Course: CS-320 Software Test Automation & QA
+ * Assignment: Module Three Milestone – Contact Service
+ *
+ * Purpose:
+ * Unit tests for ContactCodec.
+ * Verifies round trips, compact sizes, and rejection of bad input.
+ *
+ * Test Approach:
+ * - Round-trip contacts and compare every field.
+ * - Feed truncated or corrupt data and expect IllegalArgumentException.
+ */
+
+
+/*
+ * Package-private test class focused on binary encoding behavior.
+ */
+class ContactCodecTest {
+
+    /**
+     * Confirms a contact survives encode/decode and uses the expected size.
+     */
+    @Test
+    void testRoundTrip() {
+
+        // A leading zero in the phone checks that digits are restored exactly.
+        Contact contact = new Contact("CD100", "Kai", "Lee", "0081234567", "1 Bishop St");
+        ByteBuffer buffer = ByteBuffer.allocate(ContactCodec.encodedSize(contact));
+        ContactCodec.encode(contact, buffer);
+
+        // 6 + 4 + 4 string bytes, 5 phone bytes, 12 address bytes.
+        assertEquals(31, buffer.position());
+
+        buffer.flip();
+        assertContactEquals(contact, ContactCodec.decode(buffer));
+        assertEquals(0, buffer.remaining());
+    }
+
+    /**
+     * Confirms non-ASCII text and direct buffers round-trip correctly.
+     */
+    @Test
+    void testWideTextInDirectBuffer() {
+
+        Contact contact = new Contact("CD200", "Kalā", "Ōkubo", "8085556666", "2 Mōʻiliʻili Rd");
+        ByteBuffer buffer = ByteBuffer.allocateDirect(ContactCodec.encodedSize(contact));
+        ContactCodec.encode(contact, buffer);
+
+        buffer.flip();
+        assertContactEquals(contact, ContactCodec.decode(buffer));
+    }
+
+    /**
+     * Confirms the encoded bytes do not depend on the buffer's ByteOrder,
+     * so data written by one process decodes correctly in another.
+     */
+    @Test
+    void testByteOrderIndependent() {
+
+        Contact contact = new Contact("CD250", "Kalā", "Ōkubo", "0085556666", "2 Mōʻiliʻili Rd");
+        int size = ContactCodec.encodedSize(contact);
+
+        // Encode into a little-endian buffer, decode from a big-endian one.
+        ByteBuffer little = ByteBuffer.allocate(size).order(ByteOrder.LITTLE_ENDIAN);
+        ContactCodec.encode(contact, little);
+        ByteBuffer big = ByteBuffer.wrap(little.array());
+        assertContactEquals(contact, ContactCodec.decode(big));
+
+        // The reverse direction, and identical bytes either way.
+        ByteBuffer written = ByteBuffer.allocate(size);
+        ContactCodec.encode(contact, written);
+        assertArrayEquals(written.array(), little.array());
+        ByteBuffer readLittle = ByteBuffer.wrap(written.array()).order(ByteOrder.LITTLE_ENDIAN);
+        assertContactEquals(contact, ContactCodec.decode(readLittle));
+
+        // Batches follow the same rule.
+        List<Contact> batch = Arrays.asList(contact, contact);
+        ByteBuffer encodedBatch = ContactCodec.encodeBatch(batch).order(ByteOrder.LITTLE_ENDIAN);
+        List<Contact> decoded = ContactCodec.decodeBatch(encodedBatch);
+        assertContactEquals(contact, decoded.get(1));
+    }
+
+    /**
+     * Confirms a batch round-trips and shared names make it smaller than
+     * encoding each contact on its own.
+     */
+    @Test
+    void testBatchRoundTrip() {
+
+        List<Contact> contacts = Arrays.asList(
+                new Contact("B1", "Makana", "Kailoa", "8081111111", "1 King St"),
+                new Contact("B2", "Makana", "Kailoa", "8082222222", "2 King St"),
+                new Contact("B3", "Makana", "Kailoa", "8083333333", "3 King St")
+        );
+
+        int singleTotal = 0;
+        for (Contact contact : contacts) {
+            singleTotal += ContactCodec.encodedSize(contact);
+        }
+        int batchSize = ContactCodec.encodedBatchSize(contacts);
+        assertTrue(batchSize < singleTotal);
+
+        ByteBuffer buffer = ByteBuffer.allocate(batchSize);
+        ContactCodec.encodeBatch(contacts, buffer);
+        assertEquals(batchSize, buffer.position());
+
+        buffer.flip();
+        List<Contact> decoded = ContactCodec.decodeBatch(buffer);
+        assertEquals(contacts.size(), decoded.size());
+        for (int i = 0; i < contacts.size(); i++) {
+            assertContactEquals(contacts.get(i), decoded.get(i));
+        }
+    }
+
+    /**
+     * Confirms encoding into a buffer that is too small is rejected
+     * without writing anything.
+     */
+    @Test
+    void testBufferTooSmall() {
+
+        Contact contact = new Contact("CD300", "Leo", "Ika", "8087778888", "3 Ward Ave");
+        ByteBuffer buffer = ByteBuffer.allocate(ContactCodec.encodedSize(contact) - 1);
+
+        assertThrows(IllegalArgumentException.class, () ->
+                ContactCodec.encode(contact, buffer)
+        );
+        assertEquals(0, buffer.position());
+    }
+
+    /**
+     * Confirms truncated and corrupt data are rejected and leave the
+     * buffer's position unchanged.
+     */
+    @Test
+    void testInvalidData() {
+
+        Contact contact = new Contact("CD400", "Rin", "Sato", "8089990000", "4 Nuuanu St");
+        ByteBuffer full = ByteBuffer.allocate(ContactCodec.encodedSize(contact));
+        ContactCodec.encode(contact, full);
+
+        // Cutting off the last byte leaves the address incomplete.
+        ByteBuffer truncated = ByteBuffer.wrap(full.array(), 0, full.capacity() - 1);
+        assertThrows(IllegalArgumentException.class, () ->
+                ContactCodec.decode(truncated)
+        );
+        assertEquals(0, truncated.position());
+
+        // A contactId length above MAX_ID_LEN is rejected before reading it.
+        byte[] corrupt = full.array().clone();
+        corrupt[0] = 40;
+        ByteBuffer corrupted = ByteBuffer.wrap(corrupt);
+        assertThrows(IllegalArgumentException.class, () ->
+                ContactCodec.decode(corrupted)
+        );
+        assertEquals(0, corrupted.position());
+
+        // A bad phone digit is only caught by Contact validation, after every
+        // field was read; the position still goes back to the record start.
+        byte[] badPhone = full.array().clone();
+        int phoneStart = 6 + 4 + 5;
+        Arrays.fill(badPhone, phoneStart, phoneStart + 5, (byte) 0xFF);
+        ByteBuffer badPhoneBuffer = ByteBuffer.wrap(badPhone);
+        assertThrows(IllegalArgumentException.class, () ->
+                ContactCodec.decode(badPhoneBuffer)
+        );
+        assertEquals(0, badPhoneBuffer.position());
+
+        // A truncated batch is rejected and left where it started too.
+        ByteBuffer batch = ContactCodec.encodeBatch(Arrays.asList(contact, contact));
+        ByteBuffer truncatedBatch = ByteBuffer.wrap(batch.array(), 0, batch.limit() - 1);
+        assertThrows(IllegalArgumentException.class, () ->
+                ContactCodec.decodeBatch(truncatedBatch)
+        );
+        assertEquals(0, truncatedBatch.position());
+    }
+
+    /**
+     * Confirms every Contact limit fits the format, so raising one past
+     * what the header or phone bytes can hold fails here as well as at
+     * class load.
+     */
+    @Test
+    void testContactLimitsFitFormat() {
+        assertTrue(Contact.MAX_ID_LEN <= ContactCodec.LENGTH_MASK);
+        assertTrue(Contact.MAX_NAME_LEN <= ContactCodec.LENGTH_MASK);
+        assertTrue(Contact.MAX_ADDRESS_LEN <= ContactCodec.LENGTH_MASK);
+        assertTrue(Contact.PHONE_LEN <= ContactCodec.MAX_PHONE_DIGITS);
+    }
+
+    /**
+     * Confirms a stream reader can skip past a bad record after a rejected
+     * decode, because the position is restored to the record's start.
+     */
+    @Test
+    void testSkipBadRecordInStream() {
+
+        Contact first = new Contact("CD500", "Koa", "Kea", "8081231234", "5 Beretania St");
+        Contact second = new Contact("CD501", "Mika", "Zen", "8084564567", "6 Beretania St");
+        int firstSize = ContactCodec.encodedSize(first);
+        ByteBuffer stream = ByteBuffer.allocate(firstSize + ContactCodec.encodedSize(second));
+        ContactCodec.encode(first, stream);
+        ContactCodec.encode(second, stream);
+        stream.flip();
+
+        // Corrupt the first record's contactId length.
+        stream.put(0, (byte) 40);
+        assertThrows(IllegalArgumentException.class, () ->
+                ContactCodec.decode(stream)
+        );
+
+        // Skip the known-size record and keep reading.
+        stream.position(stream.position() + firstSize);
+        assertContactEquals(second, ContactCodec.decode(stream));
+    }
+
+    // Compares every field of two contacts.
+    private static void assertContactEquals(Contact expected, Contact actual) {
+        assertEquals(expected.getContactId(), actual.getContactId());
+        assertEquals(expected.getFirstName(), actual.getFirstName());
+        assertEquals(expected.getLastName(), actual.getLastName());
+        assertEquals(expected.getPhone(), actual.getPhone());
+        assertEquals(expected.getAddress(), actual.getAddress());
+    }
+}
@@ -2,6 +2,8 @@ package contactservice;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Author: Raynaldo Young
@@ -16,6 +18,11 @@ import java.util.Map;
  * - Uniqueness is enforced at the service layer by rejecting duplicate IDs.
  * - Field validation is delegated to Contact setters to avoid duplicated rules.
  * - Missing IDs are treated as errors to make defects visible in unit tests.
+ * - Every change also records an immutable ContactVersion so snapshots
+ *   (see openSnapshot()) read a consistent view without blocking writers.
+ *   Only changes made through this service are versioned.
+ * - Write operations are synchronized. Reads (getContact, size, snapshots)
+ *   never take that lock, so they are not queued behind writers.
  */
 
 
@@ -28,11 +35,30 @@ public class ContactService {
     // In-memory storage keyed by contactId for fast lookup.
     private final Map<String, Contact> contacts = new HashMap<>();
 
+    // Newest-first version chains keyed by contactId, read by open snapshots.
+    // Concurrent so snapshots can scan it while writers add new versions.
+    private final Map<String, ContactVersion> versions = new ConcurrentHashMap<>();
+
+    // Latest committed store version. Volatile so snapshots see new commits.
+    private volatile long currentVersion;
+
+    // Number of stored contacts, published so size() can read it without the lock.
+    private volatile int contactCount;
+
+    // Read versions of open snapshots mapped to how many snapshots use each one.
+    // The smallest key is the oldest version that must be kept in memory.
+    private final TreeMap<Long, Integer> openSnapshots = new TreeMap<>();
+
     /**
      * Adds a valid Contact to the service.
      * This method enforces service-level rules: non-null input and unique ID.
+     *
+     * The caller's Contact object is stored as-is, so service updates stay
+     * visible through it. Snapshots only see changes made through this
+     * service; calling a setter on the stored object directly bypasses both
+     * the service lock and version tracking.
      */
-    public void addContact(Contact contact) {
+    public synchronized void addContact(Contact contact) {
 
         // Reject a null reference to avoid NullPointerExceptions later.
         if (contact == null) {
@@ -49,13 +75,17 @@ public class ContactService {
 
         // Store the contact using its ID as the key.
         contacts.put(contactId, contact);
+        contactCount = contacts.size();
+
+        // Publish the new state to snapshot readers.
+        recordVersion(contactId, contact);
     }
 
     /**
      * Deletes a contact by its contactId.
      * If the ID does not exist, the method throws to avoid silent failures.
      */
-    public void deleteContact(String contactId) {
+    public synchronized void deleteContact(String contactId) {
 
         // The ID is required to perform a delete operation.
         if (contactId == null) {
@@ -64,63 +94,108 @@ public class ContactService {
 
         // remove returns null when the key is not present.
         Contact removed = contacts.remove(contactId);
+        contactCount = contacts.size();
 
         // Treat unknown IDs as errors so tests can catch incorrect calls.
         if (removed == null) {
             throw new IllegalArgumentException("contactId not found");
         }
+
+        // Record a tombstone so open snapshots still see the old record.
+        recordVersion(contactId, null);
     }
 
     /**
      * Updates firstName for a specific contact ID.
      * Validation happens inside Contact.setFirstName().
      */
-    public void updateFirstName(String contactId, String firstName) {
+    public synchronized void updateFirstName(String contactId, String firstName) {
 
         // Resolve the contact or fail if the ID is unknown.
         Contact contact = getRequiredContact(contactId);
 
         // Delegate validation and assignment to the Contact model.
         contact.setFirstName(firstName);
+
+        // Publish the updated state to snapshot readers.
+        recordVersion(contactId, contact);
     }
 
     /**
      * Updates lastName for a specific contact ID.
      * Validation happens inside Contact.setLastName().
      */
-    public void updateLastName(String contactId, String lastName) {
+    public synchronized void updateLastName(String contactId, String lastName) {
 
         // Resolve the contact or fail if the ID is unknown.
         Contact contact = getRequiredContact(contactId);
 
         // Delegate validation and assignment to the Contact model.
         contact.setLastName(lastName);
+
+        // Publish the updated state to snapshot readers.
+        recordVersion(contactId, contact);
     }
 
     /**
      * Updates phone (Number) for a specific contact ID.
      * Validation happens inside Contact.setPhone().
      */
-    public void updateNumber(String contactId, String phone) {
+    public synchronized void updateNumber(String contactId, String phone) {
 
         // Resolve the contact or fail if the ID is unknown.
         Contact contact = getRequiredContact(contactId);
 
         // Delegate validation and assignment to the Contact model.
         contact.setPhone(phone);
+
+        // Publish the updated state to snapshot readers.
+        recordVersion(contactId, contact);
     }
 
     /**
      * Updates address for a specific contact ID.
      * Validation happens inside Contact.setAddress().
      */
-    public void updateAddress(String contactId, String address) {
+    public synchronized void updateAddress(String contactId, String address) {
 
         // Resolve the contact or fail if the ID is unknown.
         Contact contact = getRequiredContact(contactId);
 
         // Delegate validation and assignment to the Contact model.
         contact.setAddress(address);
+
+        // Publish the updated state to snapshot readers.
+        recordVersion(contactId, contact);
+    }
+
+    /**
+     * Returns a copy of the stored Contact for a specific contact ID.
+     * Unknown IDs throw so lookups fail the same way as updates.
+     * The copy is detached so callers cannot change the store (and bypass
+     * snapshot versioning) by calling its setters.
+     *
+     * Reads the newest version in the chain instead of the live map, so
+     * lookups never wait for the service lock held by writers. The head is
+     * used directly rather than walked with a separately read version number:
+     * a writer may trim the chain between the two reads, and the walk would
+     * then miss a contact that exists.
+     */
+    public Contact getContact(String contactId) {
+
+        // Null IDs are rejected early to keep error causes obvious.
+        if (contactId == null) {
+            throw new IllegalArgumentException("contactId cannot be null");
+        }
+
+        // The chain head is always the newest state of this contact.
+        ContactVersion head = versions.get(contactId);
+
+        // Deleted and never-added IDs are rejected like in update operations.
+        if (head == null || head.isDeleted()) {
+            throw new IllegalArgumentException("contactId not found");
+        }
+        return head.toContact();
     }
 
     /**
@@ -151,7 +226,125 @@ public class ContactService {
      * This is used by unit tests to verify add and delete behavior.
      */
     public int size() {
-        return contacts.size();
+        return contactCount;
     }
-}
 
+    // --------------------
+    // Snapshot support
+    // --------------------
+
+    /**
+     * Opens a read-only snapshot of the store as it is right now.
+     * Later writes are invisible to the snapshot; callers must close it
+     * (ideally with try-with-resources) so old versions can be discarded.
+     */
+    public ContactSnapshot openSnapshot() {
+        synchronized (openSnapshots) {
+
+            // Reading the version inside this lock keeps trimming from racing
+            // ahead of a snapshot that is still being registered.
+            long readVersion = currentVersion;
+            openSnapshots.merge(readVersion, 1, Integer::sum);
+            return new ContactSnapshot(this, versions, readVersion);
+        }
+    }
+
+    /**
+     * Called by ContactSnapshot.close() to stop tracking a snapshot.
+     * Versions that only this snapshot needed are trimmed right away.
+     *
+     * Only closing the oldest snapshot frees anything, so the full sweep runs
+     * only when the horizon moves. Other closes cost O(log snapshots); the
+     * trim on each write handles chains touched afterwards.
+     */
+    void releaseSnapshot(long readVersion) {
+        long oldHorizon;
+        long newHorizon;
+        synchronized (openSnapshots) {
+            oldHorizon = oldestNeededVersion();
+            openSnapshots.computeIfPresent(readVersion, (version, count) -> count == 1 ? null : count - 1);
+            newHorizon = oldestNeededVersion();
+        }
+        if (newHorizon == oldHorizon) {
+            return;
+        }
+
+        // Trim every chain against the new horizon.
+        for (String contactId : versions.keySet()) {
+            trimVersions(contactId, newHorizon);
+        }
+    }
+
+    /**
+     * Returns the number of snapshots that have not been closed yet.
+     * This is used by unit tests to verify snapshot cleanup.
+     */
+    public int openSnapshotCount() {
+        synchronized (openSnapshots) {
+            int count = 0;
+            for (int users : openSnapshots.values()) {
+                count += users;
+            }
+            return count;
+        }
+    }
+
+    /**
+     * Returns how many versions of a contact are still held in memory,
+     * or 0 when its history has been discarded entirely.
+     * This is used by unit tests to verify old versions are trimmed.
+     */
+    int versionCount(String contactId) {
+        ContactVersion head = versions.get(contactId);
+        return head == null ? 0 : head.chainLength();
+    }
+
+    /**
+     * Records the current state of a contact (or a delete when contact is null)
+     * as a new store version, then trims history no snapshot can read.
+     * Must be called while holding the service lock.
+     */
+    private void recordVersion(String contactId, Contact contact) {
+        long nextVersion = currentVersion + 1;
+        ContactVersion previous = versions.get(contactId);
+
+        // Link the new version in front of the older ones.
+        ContactVersion next = contact == null
+                ? ContactVersion.deleted(nextVersion, contactId, previous)
+                : ContactVersion.of(nextVersion, contact, previous);
+        versions.put(contactId, next);
+
+        // Commit only after the chain is updated so snapshots never miss it.
+        currentVersion = nextVersion;
+
+        trimVersions(contactId, oldestNeededVersion());
+    }
+
+    /**
+     * Drops versions of one contact that are older than the horizon.
+     * A delete that every snapshot can see removes the chain entirely.
+     */
+    private void trimVersions(String contactId, long horizon) {
+        ContactVersion head = versions.get(contactId);
+        if (head == null) {
+            return;
+        }
+
+        // Conditional remove so a concurrent re-add is never discarded.
+        if (head.isDeleted() && head.getVersion() <= horizon) {
+            versions.remove(contactId, head);
+            return;
+        }
+        head.trimOlderThan(horizon);
+    }
+
+    /**
+     * Returns the oldest version any open snapshot still reads,
+     * or the current version when no snapshot is open.
+     */
+    private long oldestNeededVersion() {
+        synchronized (openSnapshots) {
+            return openSnapshots.isEmpty() ? currentVersion : openSnapshots.firstKey();
+        }
+    }
+}
@@ -170,6 +170,44 @@ class ContactServiceTest {
         assertEquals("9 Ward Ave", contact.getAddress());
     }
 
+    /**
+     * Confirms a stored contact can be looked up by contactId,
+     * that the result is a detached copy, and that unknown IDs are rejected.
+     */
+    @Test
+    void testGetContact() {
+
+        // Create a new service instance for an isolated test.
+        ContactService service = new ContactService();
+
+        // Add a known contact that will be looked up.
+        Contact contact = new Contact(
+                "GT456",
+                "Noa",
+                "Kea",
+                "8085512345",
+                "3 Hotel St"
+        );
+        service.addContact(contact);
+
+        // The lookup returns the stored values.
+        Contact found = service.getContact("GT456");
+        assertEquals("GT456", found.getContactId());
+        assertEquals("Noa", found.getFirstName());
+        assertEquals("Kea", found.getLastName());
+        assertEquals("8085512345", found.getPhone());
+        assertEquals("3 Hotel St", found.getAddress());
+
+        // Changing the copy must not change the stored record.
+        found.setFirstName("Changed");
+        assertEquals("Noa", service.getContact("GT456").getFirstName());
+
+        // Unknown IDs must fail instead of returning null.
+        assertThrows(IllegalArgumentException.class, () ->
+                service.getContact("MISS000")
+        );
+    }
+
     /**
      * Confirms update operations fail when the contactId is not found.
      * This prevents accidental creation or silent no-op updates.
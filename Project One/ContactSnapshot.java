@@ -0,0 +1,135 @@
+package contactservice;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Author: Raynaldo Young
+ * Course: CS-320 Software Test Automation & QA
+ * Assignment: Module Three Milestone – Contact Service
+ *
+ * Purpose:
+ * Read-only view of a ContactService exactly as it was when the snapshot was opened.
+ * Long-running scans (such as nightly reports) use this instead of the live store.
+ *
+ * Key Design Notes:
+ * - Reads never lock the service, so writers continue while a snapshot is open.
+ * - Returned Contact objects are detached copies; changing them has no effect.
+ * - Snapshots must be closed so the service can discard versions nobody needs.
+ * - Only changes made through ContactService are captured; setters called
+ *   directly on a stored Contact object are not versioned.
+ */
+
+
+/*
+ * Marked final because snapshot visibility rules depend on ContactService internals.
+ * Implements AutoCloseable so try-with-resources always releases the snapshot.
+ */
+public final class ContactSnapshot implements AutoCloseable {
+
+    // Service that opened this snapshot and tracks it until close().
+    private final ContactService service;
+
+    // Shared version chains owned by the service (read-only from here).
+    private final Map<String, ContactVersion> versions;
+
+    // Store version captured when the snapshot was opened.
+    private final long readVersion;
+
+    // Guards against reads after close and double release.
+    // Atomic so concurrent close() calls release the snapshot exactly once.
+    private final AtomicBoolean closed = new AtomicBoolean();
+
+    /**
+     * Package-private: snapshots are opened through ContactService.openSnapshot().
+     */
+    ContactSnapshot(ContactService service, Map<String, ContactVersion> versions, long readVersion) {
+        this.service = service;
+        this.versions = versions;
+        this.readVersion = readVersion;
+    }
+
+    /**
+     * Returns a copy of the contact as it existed when the snapshot was opened.
+     * Unknown IDs throw to match ContactService error behavior.
+     */
+    public Contact getContact(String contactId) {
+        requireOpen();
+
+        // Null IDs are rejected early to keep error causes obvious.
+        if (contactId == null) {
+            throw new IllegalArgumentException("contactId cannot be null");
+        }
+
+        // Resolve the version visible to this snapshot, if any.
+        ContactVersion head = versions.get(contactId);
+        ContactVersion visible = head == null ? null : head.visibleAt(readVersion);
+
+        // Contacts added after the snapshot or deleted before it are not visible.
+        if (visible == null) {
+            throw new IllegalArgumentException("contactId not found");
+        }
+        return visible.toContact();
+    }
+
+    /**
+     * Returns copies of every contact visible to this snapshot.
+     * Order is not guaranteed, matching the HashMap-based live store.
+     */
+    public List<Contact> getContacts() {
+        requireOpen();
+
+        List<Contact> result = new ArrayList<>();
+        for (ContactVersion head : versions.values()) {
+            ContactVersion visible = head.visibleAt(readVersion);
+            if (visible != null) {
+                result.add(visible.toContact());
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the number of contacts visible to this snapshot.
+     */
+    public int size() {
+        requireOpen();
+
+        int count = 0;
+        for (ContactVersion head : versions.values()) {
+            if (head.visibleAt(readVersion) != null) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Returns the store version this snapshot reads at.
+     */
+    public long getVersion() {
+        return readVersion;
+    }
+
+    /**
+     * Releases the snapshot so older versions can be garbage-collected.
+     * Calling close() more than once has no additional effect.
+     */
+    @Override
+    public void close() {
+        if (closed.compareAndSet(false, true)) {
+            service.releaseSnapshot(readVersion);
+        }
+    }
+
+    /**
+     * Reads after close are rejected because the history may already be trimmed.
+     */
+    private void requireOpen() {
+        if (closed.get()) {
+            throw new IllegalStateException("snapshot is closed");
+        }
+    }
+}
@@ -0,0 +1,289 @@
+package contactservice;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Author: Raynaldo Young
+ * Course: CS-320 Software Test Automation & QA
+ * Assignment: Module Three Milestone – Contact Service
+ *
+ * Purpose:
+ * Unit tests for ContactSnapshot.
+ * Verifies that snapshots keep a consistent view while the service keeps changing.
+ *
+ * Test Approach:
+ * - Open a snapshot, change the live service, then confirm the snapshot is unchanged.
+ * - Confirm closed snapshots are released and reject further reads.
+ * - Confirm history no open snapshot needs is discarded.
+ */
+
+
+/*
+ * Package-private test class focused on snapshot isolation behavior.
+ */
+class ContactSnapshotTest {
+
+    /**
+     * Confirms updates made after a snapshot opens are not visible through it.
+     */
+    @Test
+    void testSnapshotIgnoresLaterUpdates() {
+
+        // Create a service with one known contact.
+        ContactService service = new ContactService();
+        service.addContact(new Contact("SN100", "Kai", "Lee", "8081234567", "1 Bishop St"));
+
+        try (ContactSnapshot snapshot = service.openSnapshot()) {
+
+            // Change the live record after the snapshot was opened.
+            service.updateFirstName("SN100", "Noa");
+            service.updateNumber("SN100", "8087654321");
+
+            // The snapshot still returns the original values.
+            Contact old = snapshot.getContact("SN100");
+            assertEquals("Kai", old.getFirstName());
+            assertEquals("8081234567", old.getPhone());
+        }
+
+        // A new snapshot sees the latest values.
+        try (ContactSnapshot latest = service.openSnapshot()) {
+            assertEquals("Noa", latest.getContact("SN100").getFirstName());
+        }
+    }
+
+    /**
+     * Confirms adds and deletes made after a snapshot opens are not visible through it.
+     */
+    @Test
+    void testSnapshotIgnoresLaterAddsAndDeletes() {
+
+        // Create a service with one contact that will be deleted later.
+        ContactService service = new ContactService();
+        service.addContact(new Contact("SN200", "Aiko", "Tan", "8081112222", "2 King St"));
+
+        try (ContactSnapshot snapshot = service.openSnapshot()) {
+
+            // Delete the existing record and add a new one.
+            service.deleteContact("SN200");
+            service.addContact(new Contact("SN201", "Rin", "Sato", "8083334444", "3 Ward Ave"));
+
+            // The deleted record is still visible; the new record is not.
+            assertEquals(1, snapshot.size());
+            assertEquals("Aiko", snapshot.getContact("SN200").getFirstName());
+            assertThrows(IllegalArgumentException.class, () ->
+                    snapshot.getContact("SN201")
+            );
+        }
+
+        // The live service reflects both changes.
+        assertEquals(1, service.size());
+    }
+
+    /**
+     * Confirms snapshot copies are detached from the service.
+     */
+    @Test
+    void testSnapshotContactsAreCopies() {
+
+        ContactService service = new ContactService();
+        service.addContact(new Contact("SN300", "Leo", "Ika", "8085556666", "4 Nuuanu St"));
+
+        try (ContactSnapshot snapshot = service.openSnapshot()) {
+
+            // Changing the returned copy must not change the snapshot or service.
+            snapshot.getContact("SN300").setFirstName("Changed");
+            assertEquals("Leo", snapshot.getContact("SN300").getFirstName());
+        }
+    }
+
+    /**
+     * Confirms close() releases the snapshot and later reads are rejected.
+     */
+    @Test
+    void testClosedSnapshotIsReleased() {
+
+        ContactService service = new ContactService();
+        service.addContact(new Contact("SN400", "Mika", "Lane", "8087778888", "5 Kalakaua Rd"));
+
+        ContactSnapshot snapshot = service.openSnapshot();
+        assertEquals(1, service.openSnapshotCount());
+
+        // Closing twice is allowed and only releases once.
+        snapshot.close();
+        snapshot.close();
+        assertEquals(0, service.openSnapshotCount());
+
+        // Reads after close fail because old versions may already be discarded.
+        assertThrows(IllegalStateException.class, () ->
+                snapshot.getContact("SN400")
+        );
+    }
+
+    /**
+     * Confirms concurrent close() calls release a snapshot only once,
+     * so another snapshot at the same version keeps its history.
+     */
+    @Test
+    void testConcurrentCloseReleasesOnce() throws InterruptedException {
+
+        ContactService service = new ContactService();
+        service.addContact(new Contact("SN500", "Koa", "Hale", "8081212121", "6 Hotel St"));
+
+        // Two snapshots share the same read version.
+        ContactSnapshot kept = service.openSnapshot();
+        ContactSnapshot raced = service.openSnapshot();
+        assertEquals(kept.getVersion(), raced.getVersion());
+
+        // Several threads try to close the same snapshot at once.
+        CountDownLatch startGate = new CountDownLatch(1);
+        Thread[] closers = new Thread[8];
+        for (int i = 0; i < closers.length; i++) {
+            closers[i] = new Thread(() -> {
+                try {
+                    startGate.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                raced.close();
+            });
+            closers[i].start();
+        }
+        startGate.countDown();
+        for (Thread closer : closers) {
+            closer.join();
+        }
+
+        // The other snapshot is still tracked and still sees the old value.
+        assertEquals(1, service.openSnapshotCount());
+        service.updateLastName("SN500", "Iona");
+        assertEquals("Hale", kept.getContact("SN500").getLastName());
+        kept.close();
+        assertEquals(0, service.openSnapshotCount());
+    }
+
+    /**
+     * Confirms old versions are kept while a snapshot needs them and
+     * trimmed to one version per contact once it closes.
+     */
+    @Test
+    void testClosingSnapshotTrimsHistory() {
+
+        ContactService service = new ContactService();
+        service.addContact(new Contact("SN600", "Kai", "Lee", "8081234567", "7 Bishop St"));
+        service.addContact(new Contact("SN601", "Noa", "Tan", "8087654321", "8 Bishop St"));
+
+        // Without open snapshots every write trims its own chain.
+        service.updateFirstName("SN600", "Koa");
+        assertEquals(1, service.versionCount("SN600"));
+
+        ContactSnapshot snapshot = service.openSnapshot();
+        service.updateFirstName("SN600", "Leo");
+        service.updateFirstName("SN600", "Rin");
+        service.updateLastName("SN601", "Sato");
+
+        // The snapshot's version plus every later write is still held.
+        assertEquals(3, service.versionCount("SN600"));
+        assertEquals(2, service.versionCount("SN601"));
+        assertEquals("Koa", snapshot.getContact("SN600").getFirstName());
+
+        // Closing the only snapshot leaves just the newest version of each chain.
+        snapshot.close();
+        assertEquals(1, service.versionCount("SN600"));
+        assertEquals(1, service.versionCount("SN601"));
+        assertEquals("Rin", service.getContact("SN600").getFirstName());
+    }
+
+    /**
+     * Confirms closing a newer snapshot keeps the history an older one
+     * still reads, and closing the oldest one frees it.
+     */
+    @Test
+    void testClosingNewerSnapshotKeepsOlderHistory() {
+
+        ContactService service = new ContactService();
+        service.addContact(new Contact("SN650", "Kai", "Lee", "8081234567", "13 Bishop St"));
+
+        ContactSnapshot older = service.openSnapshot();
+        service.updateFirstName("SN650", "Noa");
+        ContactSnapshot newer = service.openSnapshot();
+        service.updateFirstName("SN650", "Koa");
+        assertEquals(3, service.versionCount("SN650"));
+
+        // The horizon is still the older snapshot's version.
+        newer.close();
+        assertEquals("Kai", older.getContact("SN650").getFirstName());
+        assertEquals(3, service.versionCount("SN650"));
+
+        older.close();
+        assertEquals(1, service.versionCount("SN650"));
+    }
+
+    /**
+     * Confirms a deleted contact's history is dropped entirely once no
+     * snapshot can still see the contact.
+     */
+    @Test
+    void testDeletedContactIsDiscarded() {
+
+        ContactService service = new ContactService();
+        service.addContact(new Contact("SN700", "Aiko", "Hale", "8081112222", "9 King St"));
+
+        // With no snapshot open the tombstone is removed immediately.
+        service.deleteContact("SN700");
+        assertEquals(0, service.versionCount("SN700"));
+
+        service.addContact(new Contact("SN701", "Mika", "Kea", "8083334444", "10 King St"));
+        ContactSnapshot snapshot = service.openSnapshot();
+        service.deleteContact("SN701");
+
+        // The tombstone and the old version stay while the snapshot reads them.
+        assertEquals(2, service.versionCount("SN701"));
+        assertEquals("Mika", snapshot.getContact("SN701").getFirstName());
+
+        snapshot.close();
+        assertEquals(0, service.versionCount("SN701"));
+    }
+
+    /**
+     * Confirms re-adding a deleted contact while a snapshot is open keeps
+     * the old record in the snapshot and the new one in the service.
+     */
+    @Test
+    void testReAddWhileSnapshotOpen() {
+
+        ContactService service = new ContactService();
+        service.addContact(new Contact("SN800", "Leo", "Ika", "8085556666", "11 Ward Ave"));
+
+        ContactSnapshot before = service.openSnapshot();
+        service.deleteContact("SN800");
+        ContactSnapshot deleted = service.openSnapshot();
+        service.addContact(new Contact("SN800", "Maui", "Zen", "8089990000", "12 Ward Ave"));
+
+        // Each side resolves the version that was current for it.
+        assertEquals("Leo", before.getContact("SN800").getFirstName());
+        assertThrows(IllegalArgumentException.class, () ->
+                deleted.getContact("SN800")
+        );
+        assertEquals("Maui", service.getContact("SN800").getFirstName());
+        try (ContactSnapshot after = service.openSnapshot()) {
+            assertEquals("Maui", after.getContact("SN800").getFirstName());
+        }
+
+        // Closing the older snapshot drops the original record but keeps the
+        // tombstone the remaining snapshot still reads.
+        before.close();
+        assertEquals(2, service.versionCount("SN800"));
+        assertThrows(IllegalArgumentException.class, () ->
+                deleted.getContact("SN800")
+        );
+
+        deleted.close();
+        assertEquals(1, service.versionCount("SN800"));
+        assertEquals("Maui", service.getContact("SN800").getFirstName());
+    }
+}
@@ -0,0 +1,136 @@
+package contactservice;
+
+/**
+ * Author: Raynaldo Young
+ * Course: CS-320 Software Test Automation & QA
+ * Assignment: Module Three Milestone – Contact Service
+ *
+ * Purpose:
+ * Immutable copy of one Contact state at a specific store version.
+ * ContactService links these copies into a newest-first chain per contactId
+ * so snapshots can read older states while writers keep changing the live Contact.
+ *
+ * Key Design Notes:
+ * - Field values are copied once and never change after construction.
+ * - A deleted contact is recorded as a "tombstone" version with no field values.
+ * - Only the link to the older version is mutable so old history can be trimmed.
+ */
+
+
+/*
+ * Package-private because version chains are an internal detail of ContactService.
+ */
+final class ContactVersion {
+
+    // Store version number at which this state became visible.
+    private final long version;
+
+    // Copied field values (all null when this version is a tombstone).
+    private final String contactId;
+    private final String firstName;
+    private final String lastName;
+    private final String phone;
+    private final String address;
+
+    // Next older version of the same contact, or null when history was trimmed.
+    // Volatile so snapshot readers always see the latest trimmed chain.
+    private volatile ContactVersion previous;
+
+    /**
+     * Creates a version from the current state of a live Contact.
+     */
+    static ContactVersion of(long version, Contact contact, ContactVersion previous) {
+        return new ContactVersion(
+                version,
+                contact.getContactId(),
+                contact.getFirstName(),
+                contact.getLastName(),
+                contact.getPhone(),
+                contact.getAddress(),
+                previous
+        );
+    }
+
+    /**
+     * Creates a tombstone version that marks the contact as deleted.
+     */
+    static ContactVersion deleted(long version, String contactId, ContactVersion previous) {
+        return new ContactVersion(version, contactId, null, null, null, null, previous);
+    }
+
+    private ContactVersion(long version, String contactId, String firstName,
+                           String lastName, String phone, String address,
+                           ContactVersion previous) {
+        this.version = version;
+        this.contactId = contactId;
+        this.firstName = firstName;
+        this.lastName = lastName;
+        this.phone = phone;
+        this.address = address;
+        this.previous = previous;
+    }
+
+    /**
+     * Walks the chain and returns the newest version visible at readVersion.
+     * Returns null when the contact did not exist at that version.
+     */
+    ContactVersion visibleAt(long readVersion) {
+        ContactVersion current = this;
+
+        // Skip versions written after the reader's version.
+        while (current != null && current.version > readVersion) {
+            current = current.previous;
+        }
+
+        // A tombstone means the contact was deleted at that point in time.
+        if (current == null || current.isDeleted()) {
+            return null;
+        }
+        return current;
+    }
+
+    /**
+     * Drops every version older than the newest one visible at horizon.
+     * No open snapshot reads below the horizon, so that history is unreachable.
+     */
+    void trimOlderThan(long horizon) {
+        ContactVersion current = this;
+
+        // Find the first version that every open snapshot can already see.
+        while (current != null && current.version > horizon) {
+            current = current.previous;
+        }
+
+        // Cut the chain below it so older copies can be garbage-collected.
+        if (current != null) {
+            current.previous = null;
+        }
+    }
+
+    // Returns how many versions are linked from this one, including itself.
+    int chainLength() {
+        int length = 0;
+        for (ContactVersion current = this; current != null; current = current.previous) {
+            length++;
+        }
+        return length;
+    }
+
+    /**
+     * Builds a detached Contact copy of this version.
+     * Changes made to the copy never reach the service.
+     */
+    Contact toContact() {
+        return new Contact(contactId, firstName, lastName, phone, address);
+    }
+
+    // Returns the store version at which this state was written.
+    long getVersion() {
+        return version;
+    }
+
+    // Returns true when this version records a delete.
+    boolean isDeleted() {
+        return firstName == null;
+    }
+}
@@ -0,0 +1,110 @@
+package contactservice;
+
+/**
+ * Author: Raynaldo Young
+ * Course: CS-320 Software Test Automation & QA
+ * Assignment: Module Three Milestone – Contact Service
+ *
+ * Purpose:
+ * Fixed-size latency histogram used by LoadRunner and LoadReport.
+ * Memory does not grow with the number of recorded values, so long soak
+ * runs can record every call without running out of heap.
+ *
+ * Key Design Notes:
+ * - Buckets are log-scaled with 128 linear sub-buckets per power of two
+ *   (the HdrHistogram layout), so any recorded value is reported within
+ *   1% of its true value across the full long range.
+ * - Values below 256 ns get one bucket each and are exact.
+ * - The exact maximum is kept separately so getMax() is never rounded.
+ * - Not thread-safe: each worker records into its own histogram and the
+ *   runner merges them after the workers stop.
+ */
+
+
+/*
+ * Package-private because it is an internal detail of load reporting.
+ */
+final class LatencyHistogram {
+
+    // 2^7 = 128 sub-buckets per power of two gives under 1% relative error.
+    private static final int SUB_BUCKET_BITS = 7;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+
+    // Enough buckets for every non-negative long value.
+    private static final int BUCKET_COUNT = (Long.SIZE - SUB_BUCKET_BITS) * SUB_BUCKET_COUNT;
+
+    private final long[] counts = new long[BUCKET_COUNT];
+    private long totalCount;
+    private long max;
+
+    /**
+     * Records one latency in nanoseconds. Negative values are recorded as 0.
+     */
+    void record(long value) {
+        long clamped = Math.max(0, value);
+        counts[bucketIndex(clamped)]++;
+        totalCount++;
+        max = Math.max(max, clamped);
+    }
+
+    /**
+     * Adds every value recorded by another histogram to this one.
+     */
+    void add(LatencyHistogram other) {
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            counts[i] += other.counts[i];
+        }
+        totalCount += other.totalCount;
+        max = Math.max(max, other.max);
+    }
+
+    // Returns how many values have been recorded.
+    long getTotalCount() {
+        return totalCount;
+    }
+
+    // Returns the largest recorded value, or 0 when nothing was recorded.
+    long getMax() {
+        return max;
+    }
+
+    /**
+     * Returns the value at the given percentile (0-100) using the nearest-rank
+     * method. The result is the upper edge of the bucket holding that rank,
+     * capped at the exact maximum, so it never understates a latency.
+     */
+    long getValueAtPercentile(double percentile) {
+        if (totalCount == 0) {
+            return 0;
+        }
+
+        // Nearest rank: the smallest value with at least percentile% of samples at or below it.
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100.0 * totalCount));
+        long seen = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return Math.min(highestValueIn(i), max);
+            }
+        }
+        return max;
+    }
+
+    /**
+     * Maps a value to its bucket. Values below 256 map to themselves; larger
+     * values keep their top 8 significant bits, shifted by their magnitude.
+     */
+    static int bucketIndex(long value) {
+        int magnitude = Math.max(0, Long.SIZE - Long.numberOfLeadingZeros(value) - (SUB_BUCKET_BITS + 1));
+        return magnitude * SUB_BUCKET_COUNT + (int) (value >>> magnitude);
+    }
+
+    /**
+     * Returns the largest value that maps to the given bucket.
+     */
+    static long highestValueIn(int index) {
+        int magnitude = Math.max(0, index / SUB_BUCKET_COUNT - 1);
+        long subBucket = index - (long) magnitude * SUB_BUCKET_COUNT;
+        return ((subBucket + 1) << magnitude) - 1;
+    }
+}
@@ -0,0 +1,106 @@
+package contactservice;
+
+/**
+ * Author: Raynaldo Young
+ * Course: CS-320 Software Test Automation & QA
+ * Assignment: Module Three Milestone – Contact Service
+ *
+ * Purpose:
+ * Summarizes one LoadRunner run: throughput, operation counts,
+ * and latency percentiles.
+ *
+ * Key Design Notes:
+ * - Latencies are measured from the intended start time of each operation.
+ *   In open-loop runs this includes time spent waiting behind slow calls,
+ *   which corrects for coordinated omission.
+ * - Percentiles come from a LatencyHistogram and are accurate to within 1%;
+ *   the maximum is exact.
+ * - Rejected calls (IllegalArgumentException, such as adding a duplicate ID)
+ *   are expected under a random mix and are counted, not treated as failures.
+ */
+
+
+/*
+ * Marked final because a report is an immutable record of a finished run.
+ */
+public final class LoadReport {
+
+    private final long completedOperations;
+    private final long rejectedOperations;
+    private final long elapsedNanos;
+
+    // Every recorded latency in nanoseconds.
+    private final LatencyHistogram latencies;
+
+    /**
+     * Package-private: reports are produced by LoadRunner.
+     * The histogram is owned by the report afterwards and must not be changed.
+     */
+    LoadReport(long completedOperations, long rejectedOperations,
+               long elapsedNanos, LatencyHistogram latencies) {
+        this.completedOperations = completedOperations;
+        this.rejectedOperations = rejectedOperations;
+        this.elapsedNanos = elapsedNanos;
+        this.latencies = latencies;
+    }
+
+    // Returns how many operations were issued, including rejected ones.
+    public long getCompletedOperations() {
+        return completedOperations;
+    }
+
+    // Returns how many operations ended in IllegalArgumentException.
+    public long getRejectedOperations() {
+        return rejectedOperations;
+    }
+
+    // Returns the wall-clock duration of the run in nanoseconds.
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    /**
+     * Returns completed operations per second over the whole run.
+     */
+    public double getThroughputPerSecond() {
+        if (elapsedNanos == 0) {
+            return 0;
+        }
+        return completedOperations * 1_000_000_000.0 / elapsedNanos;
+    }
+
+    /**
+     * Returns the latency in nanoseconds at the given percentile (0-100),
+     * using the nearest-rank method. The value is rounded up to its histogram
+     * bucket, so it may read up to 1% high but never low.
+     */
+    public long getLatencyPercentileNanos(double percentile) {
+        if (percentile < 0 || percentile > 100 || Double.isNaN(percentile)) {
+            throw new IllegalArgumentException("percentile must be between 0 and 100");
+        }
+        return latencies.getValueAtPercentile(percentile);
+    }
+
+    // Returns the slowest recorded latency in nanoseconds.
+    public long getMaxLatencyNanos() {
+        return latencies.getMax();
+    }
+
+    /**
+     * Returns a one-line summary suitable for comparing runs side by side.
+     */
+    @Override
+    public String toString() {
+        return String.format(
+                "ops=%d rejected=%d throughput=%.0f/s p50=%dus p90=%dus p99=%dus p99.9=%dus max=%dus",
+                completedOperations,
+                rejectedOperations,
+                getThroughputPerSecond(),
+                getLatencyPercentileNanos(50) / 1_000,
+                getLatencyPercentileNanos(90) / 1_000,
+                getLatencyPercentileNanos(99) / 1_000,
+                getLatencyPercentileNanos(99.9) / 1_000,
+                getMaxLatencyNanos() / 1_000
+        );
+    }
+}
@@ -0,0 +1,294 @@
+package contactservice;
+
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Author: Raynaldo Young
+ * Course: CS-320 Software Test Automation & QA
+ * Assignment: Module Three Milestone – Contact Service
+ *
+ * Purpose:
+ * Drives a ContactService with a Workload from many threads and
+ * produces a LoadReport. Used for soak tests and before/after comparisons.
+ * Runs are bounded either by a number of calls per thread or by a duration.
+ *
+ * Key Design Notes:
+ * - Closed loop: each thread sends its next call as soon as the last one returns.
+ * - Open loop: each thread follows a fixed schedule; when a call runs late, the
+ *   delay is charged to the calls that should have started meanwhile
+ *   (coordinated-omission correction). Thread schedules are staggered so
+ *   calls arrive evenly instead of in bursts.
+ * - Latencies go into a fixed-size LatencyHistogram per thread, so memory
+ *   stays constant however long a soak runs.
+ * - Any failure other than IllegalArgumentException stops the run and is
+ *   rethrown, so a broken service never produces a normal-looking report.
+ * - Every thread draws from its own seeded Random, so the sequence of calls
+ *   per thread is identical on every run with the same Workload.
+ */
+
+
+/*
+ * Not final to allow future runners to reuse the preload and dispatch logic.
+ */
+public class LoadRunner {
+
+    private final ContactService service;
+    private final Workload workload;
+
+    /**
+     * Creates a runner for the given service and workload.
+     */
+    public LoadRunner(ContactService service, Workload workload) {
+        if (service == null) {
+            throw new IllegalArgumentException("service cannot be null");
+        }
+        if (workload == null) {
+            throw new IllegalArgumentException("workload cannot be null");
+        }
+        this.service = service;
+        this.workload = workload;
+    }
+
+    /**
+     * Adds every key in the workload's key space so lookups and updates
+     * start with data to work on. Keys that already exist are left unchanged.
+     */
+    public void preload() {
+        Random random = workload.newRandom(-1);
+        for (int i = 0; i < workload.getKeyCount(); i++) {
+            try {
+                service.addContact(Workload.newContact(i, Workload.nextPhone(random)));
+            } catch (IllegalArgumentException e) {
+                // Already present from an earlier preload or run.
+            }
+        }
+    }
+
+    /**
+     * Runs a closed-loop test: each thread issues opsPerThread calls back to back.
+     */
+    public LoadReport runClosedLoop(int threads, int opsPerThread) throws InterruptedException {
+        requireOps(opsPerThread);
+        return run(threads, opsPerThread, 0, Long.MAX_VALUE);
+    }
+
+    /**
+     * Runs a closed-loop soak: each thread issues calls back to back until
+     * durationNanos has passed.
+     */
+    public LoadReport runClosedLoopFor(int threads, long durationNanos) throws InterruptedException {
+        requireDuration(durationNanos);
+        return run(threads, Long.MAX_VALUE, 0, durationNanos);
+    }
+
+    /**
+     * Runs an open-loop test: each thread schedules one call every
+     * intervalNanos, regardless of how long earlier calls took.
+     * Thread i starts i * intervalNanos / threads later than thread 0, so the
+     * combined arrival rate is a steady threads / intervalNanos calls per
+     * nanosecond (threads * 1e9 / intervalNanos per second).
+     * Latency is measured from the scheduled start, not the actual start.
+     */
+    public LoadReport runOpenLoop(int threads, int opsPerThread, long intervalNanos)
+            throws InterruptedException {
+        requireOps(opsPerThread);
+        requireInterval(intervalNanos);
+        return run(threads, opsPerThread, intervalNanos, Long.MAX_VALUE);
+    }
+
+    /**
+     * Runs an open-loop soak on the same schedule as runOpenLoop(), issuing
+     * only the calls scheduled to start before durationNanos has passed.
+     */
+    public LoadReport runOpenLoopFor(int threads, long durationNanos, long intervalNanos)
+            throws InterruptedException {
+        requireDuration(durationNanos);
+        requireInterval(intervalNanos);
+        return run(threads, Long.MAX_VALUE, intervalNanos, durationNanos);
+    }
+
+    // Rejects run lengths that would issue no calls.
+    private static void requireOps(int opsPerThread) {
+        if (opsPerThread <= 0) {
+            throw new IllegalArgumentException("opsPerThread must be > 0");
+        }
+    }
+
+    // Rejects durations that would issue no calls.
+    private static void requireDuration(long durationNanos) {
+        if (durationNanos <= 0) {
+            throw new IllegalArgumentException("durationNanos must be > 0");
+        }
+    }
+
+    // Rejects open-loop intervals that cannot form a schedule.
+    private static void requireInterval(long intervalNanos) {
+        if (intervalNanos <= 0) {
+            throw new IllegalArgumentException("intervalNanos must be > 0");
+        }
+    }
+
+    /**
+     * Shared driver for every mode. An interval of 0 means closed loop.
+     * Each thread stops after opsPerThread calls or once durationNanos has
+     * passed, whichever comes first.
+     */
+    private LoadReport run(int threads, long opsPerThread, long intervalNanos, long durationNanos)
+            throws InterruptedException {
+        if (threads <= 0) {
+            throw new IllegalArgumentException("threads must be > 0");
+        }
+
+        // Each thread writes only its own slot, so no synchronization is needed.
+        LatencyHistogram[] latencies = new LatencyHistogram[threads];
+        long[] rejected = new long[threads];
+
+        // First unexpected failure from any worker; rethrown after all threads stop.
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+
+        // Release all threads together so the schedule starts at the same instant.
+        CountDownLatch startGate = new CountDownLatch(1);
+        Thread[] workers = new Thread[threads];
+        long[] startTime = new long[1];
+
+        for (int t = 0; t < threads; t++) {
+            final int threadIndex = t;
+
+            // Spread thread schedules evenly across one interval.
+            final long offset = threadIndex * intervalNanos / threads;
+            latencies[t] = new LatencyHistogram();
+            workers[t] = new Thread(() -> {
+                try {
+                    startGate.await();
+                    runWorker(threadIndex, opsPerThread, intervalNanos, startTime[0], offset,
+                            durationNanos, latencies[threadIndex], rejected, failure);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } catch (Throwable e) {
+                    failure.compareAndSet(null, e);
+                }
+            }, "load-worker-" + t);
+            workers[t].start();
+        }
+
+        // countDown() happens-before await() returns, so every worker sees startTime.
+        startTime[0] = System.nanoTime();
+        startGate.countDown();
+        for (Thread worker : workers) {
+            worker.join();
+        }
+        long elapsed = System.nanoTime() - startTime[0];
+
+        // Surface worker failures instead of reporting a partial run.
+        rethrowFailure(failure.get());
+
+        // Merge the per-thread histograms; only calls that actually ran were recorded.
+        LatencyHistogram merged = new LatencyHistogram();
+        long totalRejected = 0;
+        for (int t = 0; t < threads; t++) {
+            merged.add(latencies[t]);
+            totalRejected += rejected[t];
+        }
+        return new LoadReport(merged.getTotalCount(), totalRejected, elapsed, merged);
+    }
+
+    /**
+     * Rethrows a worker failure unchanged when possible, or wrapped otherwise.
+     */
+    private static void rethrowFailure(Throwable failure) {
+        if (failure == null) {
+            return;
+        }
+        if (failure instanceof RuntimeException) {
+            throw (RuntimeException) failure;
+        }
+        if (failure instanceof Error) {
+            throw (Error) failure;
+        }
+        throw new IllegalStateException("load worker failed", failure);
+    }
+
+    /**
+     * Executes one thread's share of the workload and records each latency.
+     * Stores the rejected-call count in rejected[threadIndex]; stops early
+     * when the duration is used up or another worker has failed.
+     */
+    private void runWorker(int threadIndex, long ops, long intervalNanos,
+                           long runStart, long offset, long durationNanos,
+                           LatencyHistogram latencies, long[] rejected,
+                           AtomicReference<Throwable> failure) {
+        Random random = workload.newRandom(threadIndex);
+
+        for (long i = 0; i < ops && failure.get() == null; i++) {
+
+            // Closed loop starts now; open loop starts at the scheduled time.
+            long intendedStart = intervalNanos == 0
+                    ? System.nanoTime()
+                    : runStart + offset + i * intervalNanos;
+
+            // Duration-bounded runs issue nothing scheduled after the deadline.
+            if (intendedStart - runStart >= durationNanos) {
+                break;
+            }
+            waitUntil(intendedStart);
+
+            if (!execute(random)) {
+                rejected[threadIndex]++;
+            }
+
+            // Measuring from the intended start includes any time spent behind schedule.
+            latencies.record(System.nanoTime() - intendedStart);
+        }
+    }
+
+    /**
+     * Issues one randomly chosen operation.
+     * Returns false when the service rejected it with IllegalArgumentException.
+     */
+    private boolean execute(Random random) {
+
+        // Draw everything from the random source before calling the service
+        // so the sequence does not depend on whether earlier calls succeeded.
+        Workload.Operation operation = workload.nextOperation(random);
+        int keyIndex = workload.nextKeyIndex(random);
+        String contactId = Workload.contactId(keyIndex);
+        String phone = Workload.nextPhone(random);
+
+        try {
+            switch (operation) {
+                case LOOKUP:
+                    service.getContact(contactId);
+                    break;
+                case UPDATE_NUMBER:
+                    service.updateNumber(contactId, phone);
+                    break;
+                case ADD:
+                    service.addContact(Workload.newContact(keyIndex, phone));
+                    break;
+                case DELETE:
+                    service.deleteContact(contactId);
+                    break;
+                default:
+                    throw new IllegalStateException("unknown operation " + operation);
+            }
+            return true;
+        } catch (IllegalArgumentException e) {
+            // Missing or duplicate IDs are a normal outcome of a random mix.
+            return false;
+        }
+    }
+
+    /**
+     * Parks the current thread until System.nanoTime() reaches the deadline.
+     * Returns immediately when the deadline has already passed.
+     */
+    private static void waitUntil(long deadline) {
+        long remaining;
+        while ((remaining = deadline - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(remaining);
+        }
+    }
+}
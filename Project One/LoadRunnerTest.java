@@ -0,0 +1,271 @@
+package contactservice;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.LockSupport;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Author: Raynaldo Young
+ * Course: CS-320 Software Test Automation & QA
+ * Assignment: Module Three Milestone – Contact Service
+ *
+ * Purpose:
+ * Unit tests for Workload, LoadRunner, and LoadReport.
+ * Verifies repeatable generation, mix proportions, report contents,
+ * coordinated-omission correction, and histogram accuracy.
+ *
+ * Test Approach:
+ * - Use small key spaces and operation counts so tests stay fast.
+ * - Check distributions with wide tolerances so results are not flaky.
+ */
+
+
+/*
+ * Package-private test class focused on load generation behavior.
+ */
+class LoadRunnerTest {
+
+    /**
+     * Confirms the same seed produces the same operations and keys.
+     */
+    @Test
+    void testSameSeedIsRepeatable() {
+
+        Workload first = Workload.productionMix(42L, 100);
+        Workload second = Workload.productionMix(42L, 100);
+        Random a = first.newRandom(0);
+        Random b = second.newRandom(0);
+
+        // Every draw must match between the two workloads.
+        for (int i = 0; i < 1_000; i++) {
+            assertEquals(first.nextOperation(a), second.nextOperation(b));
+            assertEquals(first.nextKeyIndex(a), second.nextKeyIndex(b));
+        }
+    }
+
+    /**
+     * Confirms the production mix is roughly 80/10/5/5 and keys are skewed.
+     */
+    @Test
+    void testProductionMixProportions() {
+
+        Workload workload = Workload.productionMix(7L, 1_000);
+        Random random = workload.newRandom(0);
+        int samples = 100_000;
+        int[] counts = new int[Workload.Operation.values().length];
+        int hottestKeyHits = 0;
+
+        for (int i = 0; i < samples; i++) {
+            counts[workload.nextOperation(random).ordinal()]++;
+            if (workload.nextKeyIndex(random) == 0) {
+                hottestKeyHits++;
+            }
+        }
+
+        // Allow a small tolerance around each target percentage.
+        assertEquals(0.80, counts[Workload.Operation.LOOKUP.ordinal()] / (double) samples, 0.01);
+        assertEquals(0.10, counts[Workload.Operation.UPDATE_NUMBER.ordinal()] / (double) samples, 0.01);
+        assertEquals(0.05, counts[Workload.Operation.ADD.ordinal()] / (double) samples, 0.01);
+        assertEquals(0.05, counts[Workload.Operation.DELETE.ordinal()] / (double) samples, 0.01);
+
+        // Under Zipf the hottest key gets far more than a uniform 1/1000 share.
+        assertTrue(hottestKeyHits > samples / 100);
+    }
+
+    /**
+     * Confirms invalid workload settings are rejected.
+     */
+    @Test
+    void testInvalidWorkload() {
+
+        // Key space must be positive.
+        assertThrows(IllegalArgumentException.class, () ->
+                new Workload(1L, 0, 0.99, 80, 10, 5, 5)
+        );
+
+        // At least one operation must be enabled.
+        assertThrows(IllegalArgumentException.class, () ->
+                new Workload(1L, 10, 0.99, 0, 0, 0, 0)
+        );
+
+        // Weights whose total would overflow an int are rejected up front.
+        assertThrows(IllegalArgumentException.class, () ->
+                new Workload(1L, 10, 0.99, Integer.MAX_VALUE, 1, 0, 0)
+        );
+
+        // A total of exactly Integer.MAX_VALUE is still usable.
+        Workload largest = new Workload(1L, 10, 0.99, Integer.MAX_VALUE - 1, 1, 0, 0);
+        assertNotNull(largest.nextOperation(largest.newRandom(0)));
+    }
+
+    /**
+     * Confirms a closed-loop run issues every operation and produces a report.
+     */
+    @Test
+    void testClosedLoopRun() throws InterruptedException {
+
+        ContactService service = new ContactService();
+        LoadRunner runner = new LoadRunner(service, Workload.productionMix(3L, 50));
+        runner.preload();
+        assertEquals(50, service.size());
+
+        LoadReport report = runner.runClosedLoop(4, 500);
+
+        // Every scheduled call is counted, including rejected ones.
+        assertEquals(2_000, report.getCompletedOperations());
+        assertTrue(report.getRejectedOperations() < report.getCompletedOperations());
+        assertTrue(report.getThroughputPerSecond() > 0);
+        assertTrue(report.getLatencyPercentileNanos(50) <= report.getLatencyPercentileNanos(99));
+        assertTrue(report.getLatencyPercentileNanos(99) <= report.getMaxLatencyNanos());
+    }
+
+    /**
+     * Confirms an open-loop run measures from the schedule, so it cannot
+     * finish faster than the schedule allows.
+     */
+    @Test
+    void testOpenLoopRunFollowsSchedule() throws InterruptedException {
+
+        ContactService service = new ContactService();
+        LoadRunner runner = new LoadRunner(service, Workload.productionMix(5L, 20));
+        runner.preload();
+
+        // 100 calls spaced 100 microseconds apart take at least ~10 milliseconds.
+        long interval = 100_000L;
+        LoadReport report = runner.runOpenLoop(2, 100, interval);
+
+        assertEquals(200, report.getCompletedOperations());
+        assertTrue(report.getElapsedNanos() >= 99 * interval);
+    }
+
+    /**
+     * Confirms open-loop latencies include the time calls spent queued behind
+     * a stalled call (coordinated-omission correction), not just their own
+     * service time.
+     */
+    @Test
+    void testOpenLoopChargesQueueingDelay() throws InterruptedException {
+
+        // The first lookup stalls for 10 intervals; every later call is fast.
+        long interval = 1_000_000L;
+        AtomicBoolean stalled = new AtomicBoolean();
+        ContactService service = new ContactService() {
+            @Override
+            public Contact getContact(String contactId) {
+                if (stalled.compareAndSet(false, true)) {
+                    long wakeUp = System.nanoTime() + 10 * interval;
+                    while (wakeUp - System.nanoTime() > 0) {
+                        LockSupport.parkNanos(wakeUp - System.nanoTime());
+                    }
+                }
+                return super.getContact(contactId);
+            }
+        };
+        LoadRunner runner = new LoadRunner(service, new Workload(13L, 10, 0.99, 1, 0, 0, 0));
+        runner.preload();
+
+        // One thread, so calls 1-9 are scheduled during the stall and must wait for it.
+        LoadReport report = runner.runOpenLoop(1, 20, interval);
+
+        // Call i cannot finish before the stall ends, so it is charged at
+        // least (10 - i) intervals. The 18th of 20 sorted samples is call 2.
+        assertEquals(20, report.getCompletedOperations());
+        assertTrue(report.getMaxLatencyNanos() >= 10 * interval);
+        assertTrue(report.getLatencyPercentileNanos(90) >= 8 * interval,
+                "queued calls were not charged for waiting: " + report);
+    }
+
+    /**
+     * Confirms a duration-bounded run stops on time and reports every call it made.
+     */
+    @Test
+    void testDurationBoundedRun() throws InterruptedException {
+
+        ContactService service = new ContactService();
+        LoadRunner runner = new LoadRunner(service, Workload.productionMix(11L, 20));
+        runner.preload();
+
+        // 20 milliseconds at one call per millisecond per thread.
+        long duration = 20_000_000L;
+        LoadReport report = runner.runOpenLoopFor(2, duration, 1_000_000L);
+
+        // Only calls scheduled before the deadline run: 20 per thread.
+        assertEquals(40, report.getCompletedOperations());
+        assertTrue(report.getElapsedNanos() >= 19_000_000L);
+
+        // A closed-loop soak runs until the deadline, however many calls that is.
+        LoadReport closed = runner.runClosedLoopFor(2, duration);
+        assertTrue(closed.getCompletedOperations() > 0);
+        assertTrue(closed.getElapsedNanos() >= duration);
+
+        assertThrows(IllegalArgumentException.class, () ->
+                runner.runClosedLoopFor(2, 0)
+        );
+    }
+
+    /**
+     * Confirms histogram percentiles stay within 1% of the exact values
+     * and never read low, across a wide range of magnitudes.
+     */
+    @Test
+    void testLatencyHistogramAccuracy() {
+
+        LatencyHistogram histogram = new LatencyHistogram();
+        long[] values = new long[10_000];
+        Random random = new Random(17L);
+        for (int i = 0; i < values.length; i++) {
+
+            // Spread values from nanoseconds up to about 17 minutes.
+            values[i] = (long) Math.pow(2, random.nextDouble() * 40);
+            histogram.record(values[i]);
+        }
+        Arrays.sort(values);
+
+        for (double percentile : new double[] {1, 50, 90, 99, 99.9, 100}) {
+            long exact = values[(int) Math.ceil(percentile / 100.0 * values.length) - 1];
+            long reported = histogram.getValueAtPercentile(percentile);
+            assertTrue(reported >= exact, percentile + "th read low");
+            assertTrue(reported <= exact + exact / 100, percentile + "th off by more than 1%");
+        }
+        assertEquals(values[values.length - 1], histogram.getMax());
+        assertEquals(values.length, histogram.getTotalCount());
+
+        // Merged histograms keep both extremes, including the largest long.
+        LatencyHistogram merged = new LatencyHistogram();
+        LatencyHistogram other = new LatencyHistogram();
+        merged.record(5);
+        other.record(Long.MAX_VALUE);
+        merged.add(other);
+        assertEquals(2, merged.getTotalCount());
+        assertEquals(5, merged.getValueAtPercentile(50));
+        assertEquals(Long.MAX_VALUE, merged.getValueAtPercentile(100));
+    }
+
+    /**
+     * Confirms unexpected service failures stop the run and are rethrown
+     * instead of producing a normal-looking report.
+     */
+    @Test
+    void testWorkerFailureIsRethrown() {
+
+        // A service whose lookups fail with something other than IllegalArgumentException.
+        ContactService broken = new ContactService() {
+            @Override
+            public synchronized Contact getContact(String contactId) {
+                throw new IllegalStateException("lookup backend unavailable");
+            }
+        };
+        LoadRunner runner = new LoadRunner(broken, Workload.productionMix(9L, 10));
+        runner.preload();
+
+        IllegalStateException error = assertThrows(IllegalStateException.class, () ->
+                runner.runClosedLoop(2, 100)
+        );
+        assertEquals("lookup backend unavailable", error.getMessage());
+    }
+}
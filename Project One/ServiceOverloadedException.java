@@ -0,0 +1,41 @@
+package contactservice;
+
+/**
+ * Author: Raynaldo Young
+ * Course: CS-320 Software Test Automation & QA
+ * Assignment: Module Three Milestone – Contact Service
+ *
+ * Purpose:
+ * Signals that a ContactService call was rejected by admission control
+ * (rate limit exceeded or write queue full) rather than by validation.
+ *
+ * Key Design Notes:
+ * - Extends IllegalArgumentException so existing callers that already handle
+ *   service rejections keep working without changes.
+ * - Callers that want to back off and retry can catch this type specifically.
+ */
+
+
+/*
+ * Marked final because admission rejections have no further subtypes.
+ */
+public final class ServiceOverloadedException extends IllegalArgumentException {
+
+    private static final long serialVersionUID = 1L;
+
+    // Client whose call was rejected.
+    private final String clientId;
+
+    /**
+     * Creates an overload signal for the given client and reason.
+     */
+    public ServiceOverloadedException(String clientId, String message) {
+        super(message);
+        this.clientId = clientId;
+    }
+
+    // Returns the client whose call was rejected.
+    public String getClientId() {
+        return clientId;
+    }
+}
@@ -0,0 +1,152 @@
+package contactservice;
+
+/**
+ * Author: Raynaldo Young
+ * Course: CS-320 Software Test Automation & QA
+ * Assignment: Module Three Milestone – Contact Service
+ *
+ * Purpose:
+ * ContactService with admission control in front of every mutation.
+ * Each client is rate-limited separately so one client flooding writes
+ * cannot slow down the service for everyone else.
+ *
+ * Key Design Notes:
+ * - Client-aware overloads take a clientId; the inherited methods without
+ *   a clientId are charged to DEFAULT_CLIENT_ID.
+ * - Reads (getContact, size, openSnapshot) are not throttled and do not
+ *   take the write lock, so they stay fast while writes are throttled.
+ * - Rejected writes throw ServiceOverloadedException, an
+ *   IllegalArgumentException, and leave the store unchanged.
+ */
+
+
+/*
+ * Not final, matching ContactService, to allow further extension.
+ */
+public class ThrottledContactService extends ContactService {
+
+    // Client charged for calls made through the inherited single-argument methods.
+    public static final String DEFAULT_CLIENT_ID = "default";
+
+    private final AdmissionController admission;
+
+    /**
+     * Creates an empty service guarded by the given admission controller.
+     */
+    public ThrottledContactService(AdmissionController admission) {
+        if (admission == null) {
+            throw new IllegalArgumentException("admission cannot be null");
+        }
+        this.admission = admission;
+    }
+
+    // --------------------
+    // Client-aware mutations
+    // --------------------
+
+    /**
+     * Adds a contact on behalf of a client, subject to admission control.
+     */
+    public void addContact(String clientId, Contact contact) {
+        admission.beginWrite(clientId);
+        try {
+            super.addContact(contact);
+        } finally {
+            admission.endWrite();
+        }
+    }
+
+    /**
+     * Deletes a contact on behalf of a client, subject to admission control.
+     */
+    public void deleteContact(String clientId, String contactId) {
+        admission.beginWrite(clientId);
+        try {
+            super.deleteContact(contactId);
+        } finally {
+            admission.endWrite();
+        }
+    }
+
+    /**
+     * Updates firstName on behalf of a client, subject to admission control.
+     */
+    public void updateFirstName(String clientId, String contactId, String firstName) {
+        admission.beginWrite(clientId);
+        try {
+            super.updateFirstName(contactId, firstName);
+        } finally {
+            admission.endWrite();
+        }
+    }
+
+    /**
+     * Updates lastName on behalf of a client, subject to admission control.
+     */
+    public void updateLastName(String clientId, String contactId, String lastName) {
+        admission.beginWrite(clientId);
+        try {
+            super.updateLastName(contactId, lastName);
+        } finally {
+            admission.endWrite();
+        }
+    }
+
+    /**
+     * Updates phone (Number) on behalf of a client, subject to admission control.
+     */
+    public void updateNumber(String clientId, String contactId, String phone) {
+        admission.beginWrite(clientId);
+        try {
+            super.updateNumber(contactId, phone);
+        } finally {
+            admission.endWrite();
+        }
+    }
+
+    /**
+     * Updates address on behalf of a client, subject to admission control.
+     */
+    public void updateAddress(String clientId, String contactId, String address) {
+        admission.beginWrite(clientId);
+        try {
+            super.updateAddress(contactId, address);
+        } finally {
+            admission.endWrite();
+        }
+    }
+
+    // --------------------
+    // Inherited mutations routed through the default client
+    // --------------------
+
+    @Override
+    public void addContact(Contact contact) {
+        addContact(DEFAULT_CLIENT_ID, contact);
+    }
+
+    @Override
+    public void deleteContact(String contactId) {
+        deleteContact(DEFAULT_CLIENT_ID, contactId);
+    }
+
+    @Override
+    public void updateFirstName(String contactId, String firstName) {
+        updateFirstName(DEFAULT_CLIENT_ID, contactId, firstName);
+    }
+
+    @Override
+    public void updateLastName(String contactId, String lastName) {
+        updateLastName(DEFAULT_CLIENT_ID, contactId, lastName);
+    }
+
+    @Override
+    public void updateNumber(String contactId, String phone) {
+        updateNumber(DEFAULT_CLIENT_ID, contactId, phone);
+    }
+
+    @Override
+    public void updateAddress(String contactId, String address) {
+        updateAddress(DEFAULT_CLIENT_ID, contactId, address);
+    }
+}
@@ -0,0 +1,329 @@
+package contactservice;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Author: Raynaldo Young
+ * Course: CS-320 Software Test Automation & QA
+ * Assignment: Module Three Milestone – Contact Service
+ *
+ * Purpose:
+ * Unit tests for ThrottledContactService and AdmissionController.
+ * Verifies per-client rate limits, refill over time, load shedding, client
+ * eviction, lock-free token use under contention, and that reads are never
+ * throttled, blocked by writers, or confused by concurrent updates.
+ *
+ * Test Approach:
+ * - Use a manual clock so rate-limit behavior does not depend on timing.
+ * - Confirm rejected writes leave the store unchanged.
+ */
+
+
+/*
+ * Package-private test class focused on admission control behavior.
+ */
+class ThrottledContactServiceTest {
+
+    /**
+     * Confirms a client is rejected after its burst and the store is unchanged.
+     */
+    @Test
+    void testClientRateLimited() {
+
+        // One write per second with a burst of two, on a frozen clock.
+        AtomicLong clock = new AtomicLong();
+        ThrottledContactService service = new ThrottledContactService(
+                new AdmissionController(1.0, 2, 10, 100, clock::get));
+
+        // The first two writes fit in the burst.
+        service.addContact("clientA", new Contact("RL001", "Kai", "Lee", "8081234567", "1 King St"));
+        service.addContact("clientA", new Contact("RL002", "Noa", "Lee", "8081234568", "2 King St"));
+
+        // The third write is rejected with the overload signal.
+        ServiceOverloadedException error = assertThrows(ServiceOverloadedException.class, () ->
+                service.addContact("clientA", new Contact("RL003", "Rin", "Lee", "8081234569", "3 King St"))
+        );
+        assertEquals("clientA", error.getClientId());
+        assertEquals(2, service.size());
+
+        // Advancing the clock by one second earns one more token.
+        clock.addAndGet(1_000_000_000L);
+        service.addContact("clientA", new Contact("RL003", "Rin", "Lee", "8081234569", "3 King St"));
+        assertEquals(3, service.size());
+    }
+
+    /**
+     * Confirms one client's flood does not consume another client's tokens.
+     */
+    @Test
+    void testClientsAreIsolated() {
+
+        AtomicLong clock = new AtomicLong();
+        ThrottledContactService service = new ThrottledContactService(
+                new AdmissionController(1.0, 1, 10, 100, clock::get));
+        service.addContact("noisy", new Contact("IS001", "Aiko", "Tan", "8087712234", "4 Ward Ave"));
+
+        // The noisy client is now throttled.
+        assertThrows(ServiceOverloadedException.class, () ->
+                service.updateAddress("noisy", "IS001", "5 Ward Ave")
+        );
+
+        // A different client is still admitted.
+        service.updateAddress("quiet", "IS001", "6 Ward Ave");
+        assertEquals("6 Ward Ave", service.getContact("IS001").getAddress());
+    }
+
+    /**
+     * Confirms reads are not throttled even when writes are rejected.
+     */
+    @Test
+    void testReadsAreNotThrottled() {
+
+        AtomicLong clock = new AtomicLong();
+        ThrottledContactService service = new ThrottledContactService(
+                new AdmissionController(1.0, 1, 10, 100, clock::get));
+
+        // Inherited methods are charged to the default client.
+        service.addContact(new Contact("RD001", "Leo", "Ika", "8085556666", "7 Nuuanu St"));
+        assertThrows(ServiceOverloadedException.class, () ->
+                service.updateFirstName("RD001", "Maui")
+        );
+
+        // Lookups keep working while the default client is throttled.
+        for (int i = 0; i < 100; i++) {
+            assertEquals("Leo", service.getContact("RD001").getFirstName());
+        }
+    }
+
+    /**
+     * Confirms writes are shed once the pending-write cap is reached.
+     */
+    @Test
+    void testWriteQueueSheds() {
+
+        AdmissionController admission = new AdmissionController(1_000.0, 100, 1);
+
+        // Hold the only pending-write slot open.
+        admission.beginWrite("clientA");
+        assertEquals(1, admission.pendingWrites());
+
+        // Any further write is shed regardless of client.
+        assertThrows(ServiceOverloadedException.class, () ->
+                admission.beginWrite("clientB")
+        );
+
+        // Finishing the write frees the slot again.
+        admission.endWrite();
+        admission.beginWrite("clientB");
+        admission.endWrite();
+        assertEquals(0, admission.pendingWrites());
+    }
+
+    /**
+     * Confirms validation errors still surface and release the write slot.
+     */
+    @Test
+    void testValidationErrorReleasesSlot() {
+
+        AdmissionController admission = new AdmissionController(1_000.0, 100, 1);
+        ThrottledContactService service = new ThrottledContactService(admission);
+
+        // Updating a missing ID fails validation, not admission.
+        IllegalArgumentException error = assertThrows(IllegalArgumentException.class, () ->
+                service.updateNumber("clientA", "MISSING", "8081112233")
+        );
+        assertFalse(error instanceof ServiceOverloadedException);
+        assertEquals(0, admission.pendingWrites());
+    }
+
+    /**
+     * Confirms reads complete while another thread holds the write lock.
+     */
+    @Test
+    void testReadsDoNotWaitForWriters() throws InterruptedException {
+
+        ThrottledContactService service = new ThrottledContactService(
+                new AdmissionController(1_000.0, 100, 10));
+        service.addContact(new Contact("RD200", "Noa", "Kea", "8084443333", "8 Hotel St"));
+
+        // Hold the service lock the same way a slow write would.
+        CountDownLatch locked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Thread writer = new Thread(() -> {
+            synchronized (service) {
+                locked.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        });
+        writer.start();
+        locked.await();
+
+        // Reads on another thread must finish without waiting for the lock.
+        String[] seen = new String[1];
+        int[] size = new int[1];
+        Thread reader = new Thread(() -> {
+            seen[0] = service.getContact("RD200").getFirstName();
+            size[0] = service.size();
+        });
+        reader.start();
+        reader.join(5_000);
+        boolean readerFinished = !reader.isAlive();
+
+        release.countDown();
+        writer.join();
+        reader.join();
+
+        assertTrue(readerFinished, "read waited for the write lock");
+        assertEquals("Noa", seen[0]);
+        assertEquals(1, size[0]);
+    }
+
+    /**
+     * Confirms rate settings that would overflow are rejected, while low
+     * but valid rates still allow a full burst.
+     */
+    @Test
+    void testLowRateSettings() {
+
+        // One token per ~31 years times a burst of 20 does not fit in a long.
+        assertThrows(IllegalArgumentException.class, () ->
+                new AdmissionController(1e-9, 20, 10)
+        );
+
+        // One token per 100 seconds still admits the whole burst.
+        AtomicLong clock = new AtomicLong();
+        AdmissionController admission = new AdmissionController(0.01, 20, 100, 10, clock::get);
+        for (int i = 0; i < 20; i++) {
+            admission.beginWrite("slow");
+            admission.endWrite();
+        }
+        assertThrows(ServiceOverloadedException.class, () ->
+                admission.beginWrite("slow")
+        );
+    }
+
+    /**
+     * Confirms the number of tracked clients is capped and that refilled
+     * clients are evicted to make room.
+     */
+    @Test
+    void testClientCapAndEviction() {
+
+        AtomicLong clock = new AtomicLong();
+        AdmissionController admission = new AdmissionController(1.0, 1, 10, 2, clock::get);
+
+        // Two clients each spend their only token and fill the cap.
+        admission.beginWrite("clientA");
+        admission.endWrite();
+        admission.beginWrite("clientB");
+        admission.endWrite();
+
+        // A third clientId is rejected while both buckets are still in use.
+        assertThrows(ServiceOverloadedException.class, () ->
+                admission.beginWrite("clientC")
+        );
+        assertEquals(2, admission.trackedClients());
+
+        // After the buckets refill they are evicted and the new client fits.
+        clock.addAndGet(2_000_000_000L);
+        admission.beginWrite("clientC");
+        admission.endWrite();
+        assertEquals(1, admission.trackedClients());
+    }
+
+    /**
+     * Confirms concurrent callers never take more tokens than the burst,
+     * which exercises the compare-and-set retry path.
+     */
+    @Test
+    void testTokenBucketUnderContention() throws InterruptedException {
+
+        // A frozen clock means no refills: exactly burst tokens exist.
+        int burst = 1_000;
+        TokenBucket bucket = new TokenBucket(1.0, burst, () -> 0L);
+        AtomicInteger acquired = new AtomicInteger();
+
+        CountDownLatch startGate = new CountDownLatch(1);
+        Thread[] threads = new Thread[8];
+        for (int t = 0; t < threads.length; t++) {
+            threads[t] = new Thread(() -> {
+                try {
+                    startGate.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                for (int i = 0; i < 500; i++) {
+                    if (bucket.tryAcquire()) {
+                        acquired.incrementAndGet();
+                    }
+                }
+            });
+            threads[t].start();
+        }
+        startGate.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        // 4,000 attempts compete for 1,000 tokens; none may be lost or duplicated.
+        assertEquals(burst, acquired.get());
+    }
+
+    /**
+     * Confirms lock-free lookups never report an existing contact as missing
+     * while another thread keeps updating (and trimming) its version chain.
+     */
+    @Test
+    void testReadsDuringConcurrentUpdates() throws InterruptedException {
+
+        ContactService service = new ContactService();
+        service.addContact(new Contact("RC001", "Kai", "Lee", "8081234567", "1 King St"));
+        AtomicInteger notFound = new AtomicInteger();
+        AtomicInteger writesLeft = new AtomicInteger(200_000);
+
+        CountDownLatch startGate = new CountDownLatch(1);
+        Thread[] readers = new Thread[3];
+        for (int t = 0; t < readers.length; t++) {
+            readers[t] = new Thread(() -> {
+                try {
+                    startGate.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                while (writesLeft.get() > 0) {
+                    try {
+                        service.getContact("RC001");
+                    } catch (IllegalArgumentException e) {
+                        notFound.incrementAndGet();
+                    }
+                }
+            });
+            readers[t].start();
+        }
+
+        // One writer replaces the head (and trims the old one) on every call.
+        startGate.countDown();
+        int i = 0;
+        while (writesLeft.decrementAndGet() >= 0) {
+            service.updateNumber("RC001", i++ % 2 == 0 ? "8081234568" : "8081234567");
+        }
+        for (Thread reader : readers) {
+            reader.join();
+        }
+
+        // The contact existed the whole time, so no lookup may miss it.
+        assertEquals(0, notFound.get());
+    }
+}
@@ -0,0 +1,100 @@
+package contactservice;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Author: Raynaldo Young
+ * Course: CS-320 Software Test Automation & QA
+ * Assignment: Module Three Milestone – Contact Service
+ *
+ * Purpose:
+ * Lock-free token bucket used by AdmissionController to rate-limit one client.
+ *
+ * Key Design Notes:
+ * - The whole bucket is a single AtomicLong holding the time at which the
+ *   bucket will next be full (the "theoretical arrival time" form of a
+ *   token bucket). One compare-and-set updates it, so no lock is needed.
+ * - Each admitted call pushes that time forward by one token interval.
+ *   A call is rejected when doing so would exceed the burst allowance.
+ * - Times are compared by subtraction so System.nanoTime() wrap-around is safe.
+ * - A full bucket behaves exactly like a new one, so AdmissionController may
+ *   discard it to free memory (see isFull()).
+ * - The clock is injectable so tests can control time exactly.
+ */
+
+
+/*
+ * Package-private because clients interact with AdmissionController only.
+ */
+final class TokenBucket {
+
+    // Nanoseconds it takes to earn one token.
+    private final long intervalNanos;
+
+    // How far ahead of "now" the schedule may run before calls are rejected.
+    private final long burstToleranceNanos;
+
+    private final LongSupplier clock;
+
+    // Time at which the next token is "due"; later than now while tokens are spent.
+    private final AtomicLong nextFreeTime;
+
+    /**
+     * Creates a bucket that refills at ratePerSecond and holds up to burst tokens.
+     * The bucket starts full.
+     */
+    TokenBucket(double ratePerSecond, int burst, LongSupplier clock) {
+        if (!(ratePerSecond > 0) || Double.isInfinite(ratePerSecond)) {
+            throw new IllegalArgumentException("ratePerSecond must be > 0");
+        }
+        if (burst <= 0) {
+            throw new IllegalArgumentException("burst must be > 0");
+        }
+        double interval = Math.max(1.0, 1_000_000_000.0 / ratePerSecond);
+        if (interval >= Long.MAX_VALUE) {
+            throw new IllegalArgumentException("ratePerSecond is too low");
+        }
+        this.intervalNanos = (long) interval;
+
+        // A full burst must fit in a long, or the schedule math would overflow.
+        try {
+            Math.multiplyExact(intervalNanos, (long) burst);
+        } catch (ArithmeticException e) {
+            throw new IllegalArgumentException("ratePerSecond is too low for a burst of " + burst);
+        }
+        this.burstToleranceNanos = intervalNanos * (burst - 1);
+        this.clock = clock;
+        this.nextFreeTime = new AtomicLong(clock.getAsLong());
+    }
+
+    /**
+     * Takes one token if available. Never blocks.
+     * Returns false when the client has exhausted its burst.
+     */
+    boolean tryAcquire() {
+        long now = clock.getAsLong();
+        while (true) {
+            long current = nextFreeTime.get();
+
+            // An idle bucket never "saves up" more than a full burst.
+            long base = current - now > 0 ? current : now;
+            if (base - now > burstToleranceNanos) {
+                return false;
+            }
+
+            // Retry only when another thread spent a token at the same moment.
+            if (nextFreeTime.compareAndSet(current, base + intervalNanos)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Returns true when every token has been earned back, which makes this
+     * bucket indistinguishable from a newly created one.
+     */
+    boolean isFull(long now) {
+        return nextFreeTime.get() - now <= 0;
+    }
+}
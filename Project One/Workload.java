@@ -0,0 +1,212 @@
+package contactservice;
+
+import java.util.Random;
+
+/**
+ * Author: Raynaldo Young
+ * Course: CS-320 Software Test Automation & QA
+ * Assignment: Module Three Milestone – Contact Service
+ *
+ * Purpose:
+ * Describes a seeded, repeatable traffic mix for ContactService.
+ * LoadRunner uses it to decide which operation to call and on which contactId.
+ *
+ * Key Design Notes:
+ * - The same seed always produces the same sequence of operations and keys.
+ * - Operation mix is given as integer weights (for example 80/10/5/5).
+ * - Keys follow a Zipfian distribution so a few "hot" contacts get most traffic.
+ */
+
+
+/*
+ * Marked final so a workload definition cannot change after a run is recorded.
+ */
+public final class Workload {
+
+    /**
+     * Operations the generator can issue against ContactService.
+     */
+    public enum Operation {
+        LOOKUP,
+        UPDATE_NUMBER,
+        ADD,
+        DELETE
+    }
+
+    // Skew commonly used for production-like key popularity.
+    private static final double DEFAULT_ZIPF_EXPONENT = 0.99;
+
+    // Prefix for generated IDs; "C" plus the key index stays within MAX_ID_LEN.
+    private static final String ID_PREFIX = "C";
+
+    // Upper bound on distinct keys so the Zipf table stays a reasonable size.
+    private static final int MAX_KEY_COUNT = 10_000_000;
+
+    private final long seed;
+    private final int keyCount;
+    private final double zipfExponent;
+
+    // Cumulative operation weights in Operation.values() order.
+    private final int[] cumulativeWeights;
+
+    // Cumulative Zipf probabilities; index i is the chance of picking key 0..i.
+    private final double[] keyCdf;
+
+    /**
+     * Creates a workload with explicit weights for each operation.
+     * Weights are relative, so 80/10/5/5 and 16/2/1/1 describe the same mix.
+     */
+    public Workload(long seed, int keyCount, double zipfExponent,
+                    int lookupWeight, int updateNumberWeight,
+                    int addWeight, int deleteWeight) {
+
+        // Reject settings that cannot produce a valid run.
+        if (keyCount <= 0 || keyCount > MAX_KEY_COUNT) {
+            throw new IllegalArgumentException("keyCount must be between 1 and " + MAX_KEY_COUNT);
+        }
+        if (zipfExponent < 0 || Double.isNaN(zipfExponent)) {
+            throw new IllegalArgumentException("zipfExponent must be >= 0");
+        }
+        if (lookupWeight < 0 || updateNumberWeight < 0 || addWeight < 0 || deleteWeight < 0) {
+            throw new IllegalArgumentException("operation weights cannot be negative");
+        }
+
+        this.seed = seed;
+        this.keyCount = keyCount;
+        this.zipfExponent = zipfExponent;
+
+        // Build the cumulative weight table once so sampling is a short scan.
+        // The total is summed as a long so large weights cannot wrap negative;
+        // an oversized total is rejected below before the table is ever used.
+        int[] weights = {lookupWeight, updateNumberWeight, addWeight, deleteWeight};
+        this.cumulativeWeights = new int[weights.length];
+        long total = 0;
+        for (int i = 0; i < weights.length; i++) {
+            total += weights[i];
+            cumulativeWeights[i] = (int) total;
+        }
+        if (total == 0) {
+            throw new IllegalArgumentException("at least one operation weight must be positive");
+        }
+
+        // Random.nextInt() needs the total to fit in an int.
+        if (total > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("operation weights cannot total more than " + Integer.MAX_VALUE);
+        }
+
+        this.keyCdf = buildZipfCdf(keyCount, zipfExponent);
+    }
+
+    /**
+     * Returns the production-like mix: 80% lookups, 10% updateNumber,
+     * 5% addContact and 5% deleteContact with Zipfian key skew.
+     */
+    public static Workload productionMix(long seed, int keyCount) {
+        return new Workload(seed, keyCount, DEFAULT_ZIPF_EXPONENT, 80, 10, 5, 5);
+    }
+
+    /**
+     * Returns a new random source for one worker thread.
+     * Each thread gets its own stream so runs stay repeatable per thread.
+     */
+    Random newRandom(int threadIndex) {
+        return new Random(seed * 31 + threadIndex);
+    }
+
+    /**
+     * Picks the next operation according to the configured weights.
+     */
+    Operation nextOperation(Random random) {
+        int roll = random.nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+        Operation[] operations = Operation.values();
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            if (roll < cumulativeWeights[i]) {
+                return operations[i];
+            }
+        }
+
+        // Unreachable because roll is always below the total weight.
+        throw new IllegalStateException("operation weights are inconsistent");
+    }
+
+    /**
+     * Picks the next key index using the Zipf distribution.
+     * Index 0 is the most popular key.
+     */
+    int nextKeyIndex(Random random) {
+        double roll = random.nextDouble();
+
+        // Binary search for the first cumulative probability above the roll.
+        int low = 0;
+        int high = keyCdf.length - 1;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (keyCdf[mid] > roll) {
+                high = mid;
+            } else {
+                low = mid + 1;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Returns a valid 10-digit phone number drawn from the random source.
+     */
+    static String nextPhone(Random random) {
+        char[] digits = new char[10];
+        for (int i = 0; i < digits.length; i++) {
+            digits[i] = (char) ('0' + random.nextInt(10));
+        }
+        return new String(digits);
+    }
+
+    /**
+     * Converts a key index into the contactId used in the service.
+     */
+    static String contactId(int keyIndex) {
+        return ID_PREFIX + keyIndex;
+    }
+
+    /**
+     * Builds a valid Contact for a key index so adds always pass field validation.
+     */
+    static Contact newContact(int keyIndex, String phone) {
+        return new Contact(contactId(keyIndex), "Load", "Test", phone, "1 Load Test Way");
+    }
+
+    // Returns the seed that makes this workload repeatable.
+    public long getSeed() {
+        return seed;
+    }
+
+    // Returns how many distinct contactIds the workload touches.
+    public int getKeyCount() {
+        return keyCount;
+    }
+
+    // Returns the Zipf skew (0 means every key is equally likely).
+    public double getZipfExponent() {
+        return zipfExponent;
+    }
+
+    /**
+     * Precomputes the Zipf cumulative distribution for key popularity.
+     * Key i has weight 1 / (i + 1)^exponent.
+     */
+    private static double[] buildZipfCdf(int keyCount, double exponent) {
+        double[] cdf = new double[keyCount];
+        double sum = 0;
+        for (int i = 0; i < keyCount; i++) {
+            sum += 1.0 / Math.pow(i + 1, exponent);
+            cdf[i] = sum;
+        }
+
+        // Normalize so the last entry is exactly 1.0.
+        for (int i = 0; i < keyCount; i++) {
+            cdf[i] /= sum;
+        }
+        cdf[keyCount - 1] = 1.0;
+        return cdf;
+    }
+}